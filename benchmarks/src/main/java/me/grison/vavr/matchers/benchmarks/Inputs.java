@@ -0,0 +1,76 @@
+package me.grison.vavr.matchers.benchmarks;
+
+import io.vavr.collection.*;
+
+/**
+ * Builds the benchmark inputs for a given collection kind, so every benchmark sees the same elements whatever
+ * the underlying Vavr collection is.
+ */
+final class Inputs {
+    private Inputs() {
+    }
+
+    static Traversable<Integer> traversable(String kind, Iterable<Integer> elements) {
+        switch (kind) {
+            case "HashSet":
+                return HashSet.ofAll(elements);
+            case "TreeSet":
+                return TreeSet.ofAll(elements);
+            default:
+                return seq(kind, elements);
+        }
+    }
+
+    static Seq<Integer> seq(String kind, Iterable<Integer> elements) {
+        switch (kind) {
+            case "List":
+                return List.ofAll(elements);
+            case "Vector":
+                return Vector.ofAll(elements);
+            case "Array":
+                return Array.ofAll(elements);
+            default:
+                throw new IllegalArgumentException("Not a Seq: " + kind);
+        }
+    }
+
+    static Set<Integer> set(String kind, Iterable<Integer> elements) {
+        switch (kind) {
+            case "HashSet":
+                return HashSet.ofAll(elements);
+            case "TreeSet":
+                return TreeSet.ofAll(elements);
+            default:
+                throw new IllegalArgumentException("Not a Set: " + kind);
+        }
+    }
+
+    static Map<Integer, Integer> map(String kind, int size) {
+        Map<Integer, Integer> map;
+        switch (kind) {
+            case "HashMap":
+                map = HashMap.empty();
+                break;
+            case "TreeMap":
+                map = TreeMap.empty();
+                break;
+            case "LinkedHashMap":
+                map = LinkedHashMap.empty();
+                break;
+            default:
+                throw new IllegalArgumentException("Not a Map: " + kind);
+        }
+        for (int i = 0; i < size; i++) {
+            map = map.put(i, -i);
+        }
+        return map;
+    }
+
+    /**
+     * Picks at most {@code count} elements evenly spread over {@code seq}, keeping their order.
+     */
+    static Vector<Integer> sample(Seq<Integer> seq, int count) {
+        int step = Math.max(1, seq.size() / count);
+        return Vector.range(0, Math.min(count, seq.size())).map(i -> seq.get(i * step));
+    }
+}
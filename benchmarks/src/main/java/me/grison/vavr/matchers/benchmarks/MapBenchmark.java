@@ -0,0 +1,80 @@
+package me.grison.vavr.matchers.benchmarks;
+
+import io.vavr.collection.Map;
+import io.vavr.collection.Vector;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static me.grison.vavr.matchers.VavrMatchers.*;
+import static me.grison.vavr.matchers.benchmarks.TraversableBenchmark.mismatch;
+
+/**
+ * Map matchers, on hashed, sorted and insertion-ordered maps. Entries are {@code i -> -i}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapBenchmark {
+    @Param({"HashMap", "TreeMap", "LinkedHashMap"})
+    public String collection;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    private Map<Integer, Integer> data;
+
+    private Matcher<Map<Integer, Integer>> containsSampleKeys;
+    private Matcher<Map<Integer, Integer>> containsSampleKeysAndMissing;
+    private Matcher<Map<Integer, Integer>> containsSampleValues;
+    private Matcher<Map<Integer, Integer>> containsSampleValuesAndMissing;
+    private Matcher<Map<Integer, Integer>> containsLastEntry;
+    private Matcher<Map<Integer, Integer>> containsWrongEntry;
+
+    @Setup
+    public void setUp() {
+        data = Inputs.map(collection, size);
+        Vector<Integer> sample = Inputs.sample(Vector.range(0, size), 100);
+
+        containsSampleKeys = containsKeys(sample);
+        containsSampleKeysAndMissing = containsKeys(sample.append(-1));
+        containsSampleValues = containsValues(sample.map(i -> -i));
+        containsSampleValuesAndMissing = containsValues(sample.map(i -> -i).append(1));
+        containsLastEntry = contains(size - 1, 1 - size);
+        containsWrongEntry = contains(size - 1, size);
+    }
+
+    @Benchmark
+    public boolean containsKeysMatch() {
+        return containsSampleKeys.matches(data);
+    }
+
+    @Benchmark
+    public String containsKeysMismatch() {
+        return mismatch(containsSampleKeysAndMissing, data);
+    }
+
+    @Benchmark
+    public boolean containsValuesMatch() {
+        return containsSampleValues.matches(data);
+    }
+
+    @Benchmark
+    public String containsValuesMismatch() {
+        return mismatch(containsSampleValuesAndMissing, data);
+    }
+
+    @Benchmark
+    public boolean containsEntryMatch() {
+        return containsLastEntry.matches(data);
+    }
+
+    @Benchmark
+    public String containsEntryMismatch() {
+        return mismatch(containsWrongEntry, data);
+    }
+}
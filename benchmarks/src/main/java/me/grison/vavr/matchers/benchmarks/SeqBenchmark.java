@@ -0,0 +1,105 @@
+package me.grison.vavr.matchers.benchmarks;
+
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static me.grison.vavr.matchers.VavrMatchers.*;
+import static me.grison.vavr.matchers.benchmarks.TraversableBenchmark.mismatch;
+
+/**
+ * Seq matchers, on every indexed and linear Seq kind.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeqBenchmark {
+    @Param({"List", "Vector", "Array"})
+    public String collection;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    private Seq<Integer> data;
+    private Seq<Integer> reversed;
+    private Seq<Integer> withDuplicate;
+
+    private Matcher<Seq<Integer>> isSorted;
+    private Matcher<Seq<Integer>> isReverseSorted;
+    private Matcher<Seq<Integer>> startsWithHead;
+    private Matcher<Seq<Integer>> startsWithMissing;
+    private Matcher<Seq<Integer>> endsWithTail;
+    private Matcher<Seq<Integer>> endsWithMissing;
+    private Matcher<Seq<Integer>> isUnique;
+
+    @Setup
+    public void setUp() {
+        data = Inputs.seq(collection, Vector.range(0, size));
+        reversed = Inputs.seq(collection, Vector.range(0, size).reverse());
+        withDuplicate = data.append(size / 2);
+
+        isSorted = isSorted();
+        isReverseSorted = isReverseSorted();
+        startsWithHead = startsWith(data.take(10));
+        startsWithMissing = startsWith(data.take(9).append(-1));
+        endsWithTail = endsWith(Vector.ofAll(data.takeRight(10)));
+        endsWithMissing = endsWith(Vector.ofAll(data.takeRight(9)).prepend(-1));
+        isUnique = isUnique();
+    }
+
+    @Benchmark
+    public boolean isSortedMatch() {
+        return isSorted.matches(data);
+    }
+
+    @Benchmark
+    public String isSortedMismatch() {
+        return mismatch(isSorted, reversed);
+    }
+
+    @Benchmark
+    public boolean isReverseSortedMatch() {
+        return isReverseSorted.matches(reversed);
+    }
+
+    @Benchmark
+    public String isReverseSortedMismatch() {
+        return mismatch(isReverseSorted, data);
+    }
+
+    @Benchmark
+    public boolean startsWithMatch() {
+        return startsWithHead.matches(data);
+    }
+
+    @Benchmark
+    public String startsWithMismatch() {
+        return mismatch(startsWithMissing, data);
+    }
+
+    @Benchmark
+    public boolean endsWithMatch() {
+        return endsWithTail.matches(data);
+    }
+
+    @Benchmark
+    public String endsWithMismatch() {
+        return mismatch(endsWithMissing, data);
+    }
+
+    @Benchmark
+    public boolean isUniqueMatch() {
+        return isUnique.matches(data);
+    }
+
+    @Benchmark
+    public String isUniqueMismatch() {
+        return mismatch(isUnique, withDuplicate);
+    }
+}
@@ -0,0 +1,70 @@
+package me.grison.vavr.matchers.benchmarks;
+
+import io.vavr.collection.Set;
+import io.vavr.collection.Vector;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static me.grison.vavr.matchers.VavrMatchers.containsSubSet;
+import static me.grison.vavr.matchers.VavrMatchers.isSubSetOf;
+import static me.grison.vavr.matchers.benchmarks.TraversableBenchmark.mismatch;
+
+/**
+ * Set matchers, on hashed and sorted sets. The superset given to {@code isSubSetOf} is a {@code Vector}, as it
+ * typically is when built from generated samples.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetBenchmark {
+    @Param({"HashSet", "TreeSet"})
+    public String collection;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    private Set<Integer> data;
+    private Set<Integer> withExtra;
+
+    private Matcher<Set<Integer>> containsSample;
+    private Matcher<Set<Integer>> containsSampleAndMissing;
+    private Matcher<Set<Integer>> isSubSetOfAll;
+
+    @Setup
+    public void setUp() {
+        Vector<Integer> elements = Vector.range(0, size);
+        Vector<Integer> sample = Inputs.sample(elements, 100);
+
+        data = Inputs.set(collection, elements);
+        withExtra = data.add(-1);
+
+        containsSample = containsSubSet(sample);
+        containsSampleAndMissing = containsSubSet(sample.append(-1));
+        isSubSetOfAll = isSubSetOf(elements);
+    }
+
+    @Benchmark
+    public boolean containsSubSetMatch() {
+        return containsSample.matches(data);
+    }
+
+    @Benchmark
+    public String containsSubSetMismatch() {
+        return mismatch(containsSampleAndMissing, data);
+    }
+
+    @Benchmark
+    public boolean isSubSetOfMatch() {
+        return isSubSetOfAll.matches(data);
+    }
+
+    @Benchmark
+    public String isSubSetOfMismatch() {
+        return mismatch(isSubSetOfAll, withExtra);
+    }
+}
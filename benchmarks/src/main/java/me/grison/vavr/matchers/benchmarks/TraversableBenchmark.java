@@ -0,0 +1,176 @@
+package me.grison.vavr.matchers.benchmarks;
+
+import io.vavr.Value;
+import io.vavr.collection.Traversable;
+import io.vavr.collection.Vector;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static me.grison.vavr.matchers.VavrMatchers.*;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Traversable matchers, on every collection kind. Each factory has a {@code match} benchmark evaluating a matching
+ * input and a {@code mismatch} benchmark rendering the mismatch description of a non-matching input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraversableBenchmark {
+    @Param({"List", "Vector", "Array", "HashSet", "TreeSet"})
+    public String collection;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    private Traversable<Integer> data;
+    private Traversable<Integer> empty;
+
+    private Matcher<Value<Integer>> isEmpty;
+    private Matcher<Traversable<Integer>> hasLength;
+    private Matcher<Traversable<Integer>> hasWrongLength;
+    private Matcher<Traversable<Integer>> hasLengthMatching;
+    private Matcher<Traversable<Integer>> hasLengthNotMatching;
+    private Matcher<Traversable<Integer>> containsLast;
+    private Matcher<Traversable<Integer>> containsMissing;
+    private Matcher<Traversable<Integer>> containsMatchingLast;
+    private Matcher<Traversable<Integer>> containsMatchingMissing;
+    private Matcher<Traversable<Integer>> containsTailSubList;
+    private Matcher<Traversable<Integer>> containsMissingSubList;
+    private Matcher<Traversable<Integer>> containsSampleInOrder;
+    private Matcher<Traversable<Integer>> containsSampleReversed;
+    private Matcher<Traversable<Integer>> containsSampleInAnyOrder;
+    private Matcher<Traversable<Integer>> containsSampleAndMissing;
+    private Matcher<Traversable<Integer>> allPositive;
+    private Matcher<Traversable<Integer>> allInLowerHalf;
+
+    @Setup
+    public void setUp() {
+        data = Inputs.traversable(collection, Vector.range(0, size));
+        empty = Inputs.traversable(collection, Vector.empty());
+
+        Vector<Integer> ordered = Vector.ofAll(data);
+        Vector<Integer> sample = Inputs.sample(ordered, 100);
+
+        isEmpty = isEmpty();
+        hasLength = hasLength(size);
+        hasWrongLength = hasLength(size + 1);
+        hasLengthMatching = hasLength(lessThan(size + 1));
+        hasLengthNotMatching = hasLength(lessThan(0));
+        containsLast = contains(ordered.last());
+        containsMissing = contains(-1);
+        containsMatchingLast = contains(greaterThanOrEqualTo(ordered.last()));
+        containsMatchingMissing = contains(lessThan(0));
+        containsTailSubList = containsSubList(ordered.takeRight(3));
+        containsMissingSubList = containsSubList(ordered.takeRight(3).append(-1));
+        containsSampleInOrder = containsInOrder(sample);
+        containsSampleReversed = containsInOrder(sample.reverse());
+        containsSampleInAnyOrder = containsInAnyOrder(sample);
+        containsSampleAndMissing = containsInAnyOrder(sample.append(-1));
+        allPositive = allMatch(greaterThanOrEqualTo(0));
+        allInLowerHalf = allMatch(lessThan(size / 2));
+    }
+
+    @Benchmark
+    public boolean isEmptyMatch() {
+        return isEmpty.matches(empty);
+    }
+
+    @Benchmark
+    public String isEmptyMismatch() {
+        return mismatch(isEmpty, data);
+    }
+
+    @Benchmark
+    public boolean hasLengthMatch() {
+        return hasLength.matches(data);
+    }
+
+    @Benchmark
+    public String hasLengthMismatch() {
+        return mismatch(hasWrongLength, data);
+    }
+
+    @Benchmark
+    public boolean hasLengthMatcherMatch() {
+        return hasLengthMatching.matches(data);
+    }
+
+    @Benchmark
+    public String hasLengthMatcherMismatch() {
+        return mismatch(hasLengthNotMatching, data);
+    }
+
+    @Benchmark
+    public boolean containsMatch() {
+        return containsLast.matches(data);
+    }
+
+    @Benchmark
+    public String containsMismatch() {
+        return mismatch(containsMissing, data);
+    }
+
+    @Benchmark
+    public boolean containsMatcherMatch() {
+        return containsMatchingLast.matches(data);
+    }
+
+    @Benchmark
+    public String containsMatcherMismatch() {
+        return mismatch(containsMatchingMissing, data);
+    }
+
+    @Benchmark
+    public boolean containsSubListMatch() {
+        return containsTailSubList.matches(data);
+    }
+
+    @Benchmark
+    public String containsSubListMismatch() {
+        return mismatch(containsMissingSubList, data);
+    }
+
+    @Benchmark
+    public boolean containsInOrderMatch() {
+        return containsSampleInOrder.matches(data);
+    }
+
+    @Benchmark
+    public String containsInOrderMismatch() {
+        return mismatch(containsSampleReversed, data);
+    }
+
+    @Benchmark
+    public boolean containsInAnyOrderMatch() {
+        return containsSampleInAnyOrder.matches(data);
+    }
+
+    @Benchmark
+    public String containsInAnyOrderMismatch() {
+        return mismatch(containsSampleAndMissing, data);
+    }
+
+    @Benchmark
+    public boolean allMatchMatch() {
+        return allPositive.matches(data);
+    }
+
+    @Benchmark
+    public String allMatchMismatch() {
+        return mismatch(allInLowerHalf, data);
+    }
+
+    static String mismatch(Matcher<?> matcher, Object actual) {
+        StringDescription description = new StringDescription();
+        matcher.describeMismatch(actual, description);
+        return description.toString();
+    }
+}
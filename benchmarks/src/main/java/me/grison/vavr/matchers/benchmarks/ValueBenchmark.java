@@ -0,0 +1,294 @@
+package me.grison.vavr.matchers.benchmarks;
+
+import io.vavr.Lazy;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.concurrent.Future;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import io.vavr.control.Validation;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static me.grison.vavr.matchers.VavrMatchers.*;
+import static me.grison.vavr.matchers.benchmarks.TraversableBenchmark.mismatch;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Matchers on single values: Option, Try, Either, Future, Lazy, Tuple and Validation. Their cost does not depend on
+ * a collection size, so these only track the fixed overhead of each factory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueBenchmark {
+    private final Option<Integer> some = Option.of(1);
+    private final Option<Integer> none = Option.none();
+    private final Try<Integer> success = Try.success(1);
+    private final Try<Integer> failure = Try.failure(new IllegalStateException());
+    private final Either<String, Integer> right = Either.right(1);
+    private final Either<String, Integer> left = Either.left("error");
+    private final Future<Integer> completed = Future.successful(1);
+    private final Future<Integer> pending = Future.fromCompletableFuture(new CompletableFuture<>());
+    private final Lazy<Integer> evaluated = Lazy.of(() -> 1);
+    private final Lazy<Integer> unevaluated = Lazy.of(() -> 1);
+    private final Tuple2<Integer, Integer> pair = Tuple.of(1, 2);
+    private final Validation<String, Integer> valid = Validation.valid(1);
+    private final Validation<String, Integer> invalid = Validation.invalid("error");
+
+    private final Matcher<?> isDefined = isDefined();
+    private final Matcher<?> isDefinedMatching = isDefined(lessThan(2));
+    private final Matcher<?> isEmpty = isEmpty();
+    private final Matcher<?> isSuccess = isSuccess();
+    private final Matcher<?> isSuccessMatching = isSuccess(lessThan(2));
+    private final Matcher<?> isFailure = isFailure();
+    private final Matcher<?> isFailureOfClass = isFailure(IllegalStateException.class);
+    private final Matcher<?> isRight = isRight();
+    private final Matcher<?> isRightMatching = isRight(lessThan(2));
+    private final Matcher<?> isLeft = isLeft();
+    private final Matcher<?> isLeftMatching = isLeft(is("error"));
+    private final Matcher<?> isCancelled = isCancelled();
+    private final Matcher<?> isCompleted = isCompleted();
+    private final Matcher<?> isCompletedMatching = isCompleted(lessThan(2));
+    private final Matcher<?> isEvaluated = isEvaluated();
+    private final Matcher<?> isEvaluatedMatching = isEvaluated(lessThan(2));
+    private final Matcher<?> hasArity = hasArity(2);
+    private final Matcher<?> hasArityMatching = hasArity(lessThan(3));
+    private final Matcher<?> isValid = isValid();
+    private final Matcher<?> isValidMatching = isValid(lessThan(2));
+    private final Matcher<?> isInvalid = isInvalid();
+    private final Matcher<?> isInvalidMatching = isInvalid(is("error"));
+
+    @Setup
+    public void setUp() {
+        evaluated.get();
+    }
+
+    @Benchmark
+    public boolean isDefinedMatch() {
+        return isDefined.matches(some);
+    }
+
+    @Benchmark
+    public String isDefinedMismatch() {
+        return mismatch(isDefined, none);
+    }
+
+    @Benchmark
+    public boolean isDefinedMatcherMatch() {
+        return isDefinedMatching.matches(some);
+    }
+
+    @Benchmark
+    public String isDefinedMatcherMismatch() {
+        return mismatch(isDefinedMatching, Option.of(3));
+    }
+
+    @Benchmark
+    public boolean isEmptyMatch() {
+        return isEmpty.matches(none);
+    }
+
+    @Benchmark
+    public String isEmptyMismatch() {
+        return mismatch(isEmpty, some);
+    }
+
+    @Benchmark
+    public boolean isSuccessMatch() {
+        return isSuccess.matches(success);
+    }
+
+    @Benchmark
+    public String isSuccessMismatch() {
+        return mismatch(isSuccess, failure);
+    }
+
+    @Benchmark
+    public boolean isSuccessMatcherMatch() {
+        return isSuccessMatching.matches(success);
+    }
+
+    @Benchmark
+    public String isSuccessMatcherMismatch() {
+        return mismatch(isSuccessMatching, Try.success(3));
+    }
+
+    @Benchmark
+    public boolean isFailureMatch() {
+        return isFailure.matches(failure);
+    }
+
+    @Benchmark
+    public String isFailureMismatch() {
+        return mismatch(isFailure, success);
+    }
+
+    @Benchmark
+    public boolean isFailureClassMatch() {
+        return isFailureOfClass.matches(failure);
+    }
+
+    @Benchmark
+    public String isFailureClassMismatch() {
+        return mismatch(isFailureOfClass, success);
+    }
+
+    @Benchmark
+    public boolean isRightMatch() {
+        return isRight.matches(right);
+    }
+
+    @Benchmark
+    public String isRightMismatch() {
+        return mismatch(isRight, left);
+    }
+
+    @Benchmark
+    public boolean isRightMatcherMatch() {
+        return isRightMatching.matches(right);
+    }
+
+    @Benchmark
+    public String isRightMatcherMismatch() {
+        return mismatch(isRightMatching, Either.right(3));
+    }
+
+    @Benchmark
+    public boolean isLeftMatch() {
+        return isLeft.matches(left);
+    }
+
+    @Benchmark
+    public String isLeftMismatch() {
+        return mismatch(isLeft, right);
+    }
+
+    @Benchmark
+    public boolean isLeftMatcherMatch() {
+        return isLeftMatching.matches(left);
+    }
+
+    @Benchmark
+    public String isLeftMatcherMismatch() {
+        return mismatch(isLeftMatching, Either.left("other"));
+    }
+
+    @Benchmark
+    public boolean isCancelledMatch() {
+        return isCancelled.matches(completed);
+    }
+
+    @Benchmark
+    public String isCancelledMismatch() {
+        return mismatch(isCancelled, completed);
+    }
+
+    @Benchmark
+    public boolean isCompletedMatch() {
+        return isCompleted.matches(completed);
+    }
+
+    @Benchmark
+    public String isCompletedMismatch() {
+        return mismatch(isCompleted, pending);
+    }
+
+    @Benchmark
+    public boolean isCompletedMatcherMatch() {
+        return isCompletedMatching.matches(completed);
+    }
+
+    @Benchmark
+    public String isCompletedMatcherMismatch() {
+        return mismatch(isCompletedMatching, pending);
+    }
+
+    @Benchmark
+    public boolean isEvaluatedMatch() {
+        return isEvaluated.matches(evaluated);
+    }
+
+    @Benchmark
+    public String isEvaluatedMismatch() {
+        return mismatch(isEvaluated, unevaluated);
+    }
+
+    @Benchmark
+    public boolean isEvaluatedMatcherMatch() {
+        return isEvaluatedMatching.matches(evaluated);
+    }
+
+    @Benchmark
+    public String isEvaluatedMatcherMismatch() {
+        return mismatch(isEvaluatedMatching, unevaluated);
+    }
+
+    @Benchmark
+    public boolean hasArityMatch() {
+        return hasArity.matches(pair);
+    }
+
+    @Benchmark
+    public String hasArityMismatch() {
+        return mismatch(hasArity, Tuple.of(1));
+    }
+
+    @Benchmark
+    public boolean hasArityMatcherMatch() {
+        return hasArityMatching.matches(pair);
+    }
+
+    @Benchmark
+    public String hasArityMatcherMismatch() {
+        return mismatch(hasArityMatching, Tuple.of(1, 2, 3));
+    }
+
+    @Benchmark
+    public boolean isValidMatch() {
+        return isValid.matches(valid);
+    }
+
+    @Benchmark
+    public String isValidMismatch() {
+        return mismatch(isValid, invalid);
+    }
+
+    @Benchmark
+    public boolean isValidMatcherMatch() {
+        return isValidMatching.matches(valid);
+    }
+
+    @Benchmark
+    public String isValidMatcherMismatch() {
+        return mismatch(isValidMatching, invalid);
+    }
+
+    @Benchmark
+    public boolean isInvalidMatch() {
+        return isInvalid.matches(invalid);
+    }
+
+    @Benchmark
+    public String isInvalidMismatch() {
+        return mismatch(isInvalid, valid);
+    }
+
+    @Benchmark
+    public boolean isInvalidMatcherMatch() {
+        return isInvalidMatching.matches(invalid);
+    }
+
+    @Benchmark
+    public String isInvalidMatcherMismatch() {
+        return mismatch(isInvalidMatching, valid);
+    }
+}
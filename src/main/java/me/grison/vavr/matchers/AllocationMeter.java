@@ -0,0 +1,72 @@
+package me.grison.vavr.matchers;
+
+import com.sun.management.ThreadMXBean;
+import io.vavr.CheckedFunction0;
+import io.vavr.control.Option;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes allocated on the current thread by repeated runs of a function, through the
+ * {@code com.sun.management.ThreadMXBean} of HotSpot based JVMs.
+ * <p>
+ * On JVMs without that bean, or where it cannot count allocations, nothing is measured. Allocations made by other
+ * threads on behalf of the function are not counted.
+ */
+final class AllocationMeter {
+    private static final int CALIBRATIONS = 16;
+    private static final Option<ThreadMXBean> BEAN = bean();
+
+    /**
+     * Where the results of the measured functions are written, so that their allocations cannot be optimized away.
+     */
+    @SuppressWarnings("unused")
+    private static volatile Object sink;
+
+    private AllocationMeter() {
+    }
+
+    static boolean isSupported() {
+        return BEAN.isDefined();
+    }
+
+    /**
+     * Runs {@code task} as many times as {@code sampling} says, measuring the runs after the warmup ones.
+     *
+     * @return the bytes allocated by all the measured runs, less those allocated by the measure itself, or none when
+     * allocations cannot be measured on this JVM
+     */
+    static Option<Long> measure(CheckedFunction0<?> task, LatencySampling sampling) throws Throwable {
+        if (BEAN.isEmpty())
+            return Option.none();
+        ThreadMXBean bean = BEAN.get();
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < sampling.warmups(); i++)
+            sink = task.apply();
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATIONS; i++) {
+            long before = bean.getThreadAllocatedBytes(thread);
+            overhead = Math.min(overhead, bean.getThreadAllocatedBytes(thread) - before);
+        }
+        long before = bean.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < sampling.samples(); i++)
+            sink = task.apply();
+        long allocated = bean.getThreadAllocatedBytes(thread) - before;
+        return Option.some(Math.max(0, allocated - overhead));
+    }
+
+    private static Option<ThreadMXBean> bean() {
+        try {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (!(bean instanceof ThreadMXBean) || !((ThreadMXBean) bean).isThreadAllocatedMemorySupported())
+                return Option.none();
+            ThreadMXBean allocations = (ThreadMXBean) bean;
+            if (!allocations.isThreadAllocatedMemoryEnabled())
+                allocations.setThreadAllocatedMemoryEnabled(true);
+            return Option.some(allocations);
+        } catch (LinkageError | RuntimeException e) {
+            // no com.sun.management on this JVM, or not allowed to enable the measure
+            return Option.none();
+        }
+    }
+}
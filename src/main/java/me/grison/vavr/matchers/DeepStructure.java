@@ -0,0 +1,280 @@
+package me.grison.vavr.matchers;
+
+import io.vavr.Lazy;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.Value;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Multimap;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Traversable;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import io.vavr.control.Validation;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Compares two nested Vavr values node by node, with an explicit stack rather than recursion, so that deep values do
+ * not overflow the call stack.
+ * <p>
+ * Options, Trys, Lazys, Eithers, Validations, Tuples, Maps and Seqs are walked into; Sets and all other values are
+ * compared with {@code equals}. Nodes which are the same instance on both sides are skipped, as persistent
+ * collections share most of their structure, and so are the common tails of Lists. Differences are reported with the
+ * path of the node from the root, such as {@code $.users[3].address.get.right._2}.
+ */
+final class DeepStructure {
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+
+    private DeepStructure() {
+    }
+
+    /**
+     * @param matchers whether the {@link Matcher}s found in {@code expected} are applied to the corresponding nodes of
+     *                 {@code actual}, rather than compared with them
+     * @return the first difference, in the order of the nodes of {@code expected}
+     */
+    static Option<Difference> firstDifference(Object actual, Object expected, boolean matchers) {
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(new Node(null, "$", actual, expected));
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            if (node.actual == node.expected)
+                continue;
+            Option<Difference> difference = compare(node, stack, matchers);
+            if (difference.isDefined())
+                return difference;
+        }
+        return Option.none();
+    }
+
+    /**
+     * Compares the node itself, pushing its children so that the first one is popped first.
+     */
+    @SuppressWarnings("unchecked")
+    private static Option<Difference> compare(Node node, Deque<Node> stack, boolean matchers) {
+        Object actual = node.actual, expected = node.expected;
+        if (matchers && expected instanceof Matcher) {
+            Matcher<Object> matcher = (Matcher<Object>) expected;
+            return matcher.matches(actual) ? Option.none() : Option.some(new Difference(node, description -> {
+                description.appendText("expected ").appendDescriptionOf(matcher).appendText(" but ");
+                matcher.describeMismatch(actual, description);
+            }));
+        }
+        if (expected instanceof Option && actual instanceof Option) {
+            Option<?> a = (Option<?>) actual, e = (Option<?>) expected;
+            if (a.isDefined() != e.isDefined())
+                return different(node);
+            if (e.isDefined())
+                stack.push(node.child("get", a.get(), e.get()));
+        } else if (expected instanceof Try && actual instanceof Try) {
+            Try<?> a = (Try<?>) actual, e = (Try<?>) expected;
+            if (a.isSuccess() != e.isSuccess())
+                return different(node);
+            stack.push(e.isSuccess()
+                    ? node.child("get", a.get(), e.get())
+                    : node.child("cause", a.getCause(), e.getCause()));
+        } else if (expected instanceof Lazy && actual instanceof Lazy) {
+            stack.push(node.child("get", ((Lazy<?>) actual).get(), ((Lazy<?>) expected).get()));
+        } else if (expected instanceof Either && actual instanceof Either) {
+            Either<?, ?> a = (Either<?, ?>) actual, e = (Either<?, ?>) expected;
+            if (a.isRight() != e.isRight())
+                return different(node);
+            stack.push(e.isRight()
+                    ? node.child("right", a.get(), e.get())
+                    : node.child("left", a.getLeft(), e.getLeft()));
+        } else if (expected instanceof Validation && actual instanceof Validation) {
+            Validation<?, ?> a = (Validation<?, ?>) actual, e = (Validation<?, ?>) expected;
+            if (a.isValid() != e.isValid())
+                return different(node);
+            stack.push(e.isValid()
+                    ? node.child("get", a.get(), e.get())
+                    : node.child("error", a.getError(), e.getError()));
+        } else if (expected instanceof Tuple && actual instanceof Tuple) {
+            Seq<?> a = ((Tuple) actual).toSeq(), e = ((Tuple) expected).toSeq();
+            if (a.size() != e.size())
+                return different(node);
+            for (int i = e.size() - 1; i >= 0; i--)
+                stack.push(node.child("_" + (i + 1), a.get(i), e.get(i)));
+        } else if (expected instanceof Map && actual instanceof Map) {
+            return compareMaps(node, (Map<Object, ?>) actual, (Map<Object, ?>) expected, stack);
+        } else if (expected instanceof Seq && actual instanceof Seq) {
+            return compareSeqs(node, (Seq<?>) actual, (Seq<?>) expected, stack);
+        } else if (!Objects.equals(actual, expected)) {
+            return different(node);
+        }
+        return Option.none();
+    }
+
+    private static Option<Difference> compareMaps(Node node, Map<Object, ?> actual, Map<Object, ?> expected,
+                                                  Deque<Node> stack) {
+        Deque<Node> children = new ArrayDeque<>();
+        for (Iterator<? extends Tuple2<Object, ?>> entries = expected.iterator(); entries.hasNext(); ) {
+            Tuple2<Object, ?> entry = entries.next();
+            Option<?> value = actual.get(entry._1);
+            if (value.isEmpty())
+                return Option.some(new Difference(node, description -> description.appendText("missing key ")
+                        .appendDescriptionOf(shape(entry._1))));
+            children.push(node.child(new MapKey(entry._1), value.get(), entry._2));
+        }
+        if (actual.size() != expected.size()) {
+            Object unexpected = actual.keysIterator().find(key -> !expected.containsKey(key)).get();
+            return Option.some(new Difference(node, description -> description.appendText("unexpected key ")
+                    .appendDescriptionOf(shape(unexpected))));
+        }
+        children.forEach(stack::push);
+        return Option.none();
+    }
+
+    private static Option<Difference> compareSeqs(Node node, Seq<?> actual, Seq<?> expected, Deque<Node> stack) {
+        Deque<Node> children = new ArrayDeque<>();
+        int index = 0, actualRest = 0, expectedRest = 0;
+        if (actual instanceof List && expected instanceof List) {
+            // Lists sharing a tail only have their heads compared
+            List<?> a = (List<?>) actual, e = (List<?>) expected;
+            for (; !a.isEmpty() && !e.isEmpty() && a != e; a = a.tail(), e = e.tail())
+                children.push(node.child(index++, a.head(), e.head()));
+            if (a != e) {
+                actualRest = a.size();
+                expectedRest = e.size();
+            }
+        } else {
+            Iterator<?> a = actual.iterator(), e = expected.iterator();
+            while (a.hasNext() && e.hasNext())
+                children.push(node.child(index++, a.next(), e.next()));
+            actualRest = a.size();
+            expectedRest = e.size();
+        }
+        if (actualRest != expectedRest) {
+            int actualLength = index + actualRest, expectedLength = index + expectedRest;
+            return Option.some(new Difference(node, description -> description
+                    .appendText("expected a length of " + expectedLength + " but found " + actualLength)));
+        }
+        children.forEach(stack::push);
+        return Option.none();
+    }
+
+    private static Option<Difference> different(Node node) {
+        return Option.some(new Difference(node, description -> description.appendText("expected ")
+                .appendDescriptionOf(shape(node.expected)).appendText(" but found ").appendDescriptionOf(shape(node.actual))));
+    }
+
+    /**
+     * Describes a Vavr value or a Tuple by its type, and its size when it is a collection of definite size, such as
+     * {@code a List of 3 elements}, rather than by its content: Vavr renders nested values recursively, which
+     * overflows the stack on deep values. Other values are rendered within the {@link RenderingBudget}.
+     */
+    static SelfDescribing shape(Object value) {
+        if (value instanceof Matcher)
+            return (Matcher<?>) value;
+        if (!(value instanceof Value) && !(value instanceof Tuple))
+            return description -> RenderingBudget.current().appendValue(description, value);
+        String type = value instanceof Value ? ((Value<?>) value).stringPrefix() : value.getClass().getSimpleName();
+        String article = "AEIOU".indexOf(type.charAt(0)) >= 0 ? "an " : "a ";
+        if (value instanceof Traversable && ((Traversable<?>) value).hasDefiniteSize()
+                && ((Traversable<?>) value).isTraversableAgain()) {
+            int size = ((Traversable<?>) value).size();
+            String elements = value instanceof Map || value instanceof Multimap ? " entr" + (size == 1 ? "y" : "ies")
+                    : " element" + (size == 1 ? "" : "s");
+            return description -> description.appendText(article + type + " of " + size + elements);
+        }
+        return description -> description.appendText(article + type);
+    }
+
+    /**
+     * A pair of nodes at the same path, linked to its parent so that the path is only built when reported.
+     */
+    private static final class Node {
+        private final Node parent;
+        private final Object segment;
+        private final Object actual;
+        private final Object expected;
+
+        private Node(Node parent, Object segment, Object actual, Object expected) {
+            this.parent = parent;
+            this.segment = segment;
+            this.actual = actual;
+            this.expected = expected;
+        }
+
+        private Node child(Object segment, Object actual, Object expected) {
+            return new Node(this, segment, actual, expected);
+        }
+
+        private String path() {
+            return segments().mkString();
+        }
+
+        private List<String> segments() {
+            List<String> segments = List.empty();
+            for (Node node = this; node != null; node = node.parent) {
+                if (node.parent == null)
+                    segments = segments.prepend(String.valueOf(node.segment));
+                else if (node.segment instanceof MapKey)
+                    segments = segments.prepend(((MapKey) node.segment).segment());
+                else if (node.segment instanceof String)
+                    segments = segments.prepend("." + node.segment);
+                else
+                    segments = segments.prepend("[" + node.segment + "]");
+            }
+            return segments;
+        }
+    }
+
+    /**
+     * The key of a Map entry, as a path segment: {@code .name} or {@code ["a b"]} for a String, {@code {1}} for other
+     * keys, so that they cannot be mistaken for the index of a Seq.
+     */
+    private static final class MapKey {
+        private final Object key;
+
+        private MapKey(Object key) {
+            this.key = key;
+        }
+
+        private String segment() {
+            if (!(key instanceof String))
+                return "{" + key + "}";
+            if (IDENTIFIER.matcher((String) key).matches())
+                return "." + key;
+            return "[\"" + key + "\"]";
+        }
+    }
+
+    /**
+     * The first difference found, describing itself as its path followed by what differs there.
+     */
+    static final class Difference implements SelfDescribing {
+        private final Node node;
+        private final SelfDescribing what;
+
+        private Difference(Node node, SelfDescribing what) {
+            this.node = node;
+            this.what = what;
+        }
+
+        String path() {
+            return node.path();
+        }
+
+        /**
+         * Appends the path within the {@link RenderingBudget}, the segments of a deep path being summarized by their
+         * count.
+         */
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("at ");
+            RenderingBudget.current().appendList(description, "", "", ": ", node.segments(), Description::appendText);
+            description.appendDescriptionOf(what);
+        }
+    }
+}
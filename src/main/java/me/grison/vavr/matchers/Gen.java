@@ -0,0 +1,100 @@
+package me.grison.vavr.matchers;
+
+import io.vavr.Tuple;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Vector;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * A generator of random values, for use with {@link Property#forAll(Gen, org.hamcrest.Matcher)}.
+ * <p>
+ * A generator must only draw from the {@link Random} it is given, so that a property run is reproducible from its
+ * seed.
+ */
+@FunctionalInterface
+public interface Gen<T> {
+    T apply(Random random);
+
+    default <U> Gen<U> map(Function<? super T, ? extends U> mapper) {
+        return random -> mapper.apply(apply(random));
+    }
+
+    default <U> Gen<U> flatMap(Function<? super T, ? extends Gen<? extends U>> mapper) {
+        return random -> mapper.apply(apply(random)).apply(random);
+    }
+
+    static <T> Gen<T> constant(T value) {
+        return random -> value;
+    }
+
+    /**
+     * Integers between {@code min} and {@code max}, inclusive.
+     */
+    static Gen<Integer> choose(int min, int max) {
+        if (min > max)
+            throw new IllegalArgumentException("min > max");
+        return random -> (int) (min + Math.floorMod(random.nextLong(), (long) max - min + 1));
+    }
+
+    static Gen<Boolean> booleans() {
+        return Random::nextBoolean;
+    }
+
+    @SafeVarargs
+    static <T> Gen<T> oneOf(T... values) {
+        if (values.length == 0)
+            throw new IllegalArgumentException("No values to choose from");
+        return random -> values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Strings of lower case letters, of at most {@code maxLength} characters.
+     */
+    static Gen<String> strings(int maxLength) {
+        return random -> {
+            char[] chars = new char[random.nextInt(maxLength + 1)];
+            for (int i = 0; i < chars.length; i++)
+                chars[i] = (char) ('a' + random.nextInt(26));
+            return new String(chars);
+        };
+    }
+
+    static <T> Gen<List<T>> list(Gen<T> elements, int maxSize) {
+        return random -> List.fill(random.nextInt(maxSize + 1), () -> elements.apply(random));
+    }
+
+    static <T> Gen<Vector<T>> vector(Gen<T> elements, int maxSize) {
+        return random -> Vector.fill(random.nextInt(maxSize + 1), () -> elements.apply(random));
+    }
+
+    /**
+     * Maps of at most {@code maxSize} entries, fewer when keys are generated twice.
+     */
+    static <K, V> Gen<Map<K, V>> map(Gen<K> keys, Gen<V> values, int maxSize) {
+        return random -> HashMap.fill(random.nextInt(maxSize + 1), () -> Tuple.of(keys.apply(random), values.apply(random)));
+    }
+
+    static <T> Gen<Option<T>> option(Gen<T> values) {
+        return random -> random.nextInt(4) == 0 ? Option.none() : Option.some(values.apply(random));
+    }
+
+    static <L, R> Gen<Either<L, R>> either(Gen<L> lefts, Gen<R> rights) {
+        return random -> random.nextBoolean() ? Either.left(lefts.apply(random)) : Either.right(rights.apply(random));
+    }
+
+    /**
+     * Successes of the given values, or, one time out of four, failures with an {@link IllegalStateException}.
+     */
+    static <T> Gen<Try<T>> tryOf(Gen<T> values) {
+        return random -> random.nextInt(4) == 0
+                ? Try.failure(new IllegalStateException("generated failure"))
+                : Try.success(values.apply(random));
+    }
+}
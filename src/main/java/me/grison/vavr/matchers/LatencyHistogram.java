@@ -0,0 +1,108 @@
+package me.grison.vavr.matchers;
+
+import io.vavr.CheckedFunction0;
+
+import java.util.Locale;
+
+/**
+ * Records latencies in nanoseconds into log-linear buckets, the way HdrHistogram does: values below 128 ns are kept
+ * exactly, and larger ones in 64 buckets per power of two, so that a percentile is reported within 1.6% of the
+ * measured value whatever its magnitude, in a fixed amount of memory.
+ */
+final class LatencyHistogram {
+    private static final int EXACT = 128;
+    private static final int SUB_BUCKETS = 64;
+    private static final int BUCKETS = EXACT + 56 * SUB_BUCKETS;
+
+    /**
+     * Where the results of the measured functions are written, so that they cannot be optimized away.
+     */
+    @SuppressWarnings("unused")
+    private static volatile Object sink;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    /**
+     * Runs {@code task} as many times as {@code sampling} says, measuring the runs after the warmup ones.
+     */
+    static LatencyHistogram measure(CheckedFunction0<?> task, LatencySampling sampling) throws Throwable {
+        for (int i = 0; i < sampling.warmups(); i++)
+            sink = task.apply();
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < sampling.samples(); i++) {
+            long start = System.nanoTime();
+            Object result = task.apply();
+            histogram.record(System.nanoTime() - start);
+            sink = result;
+        }
+        return histogram;
+    }
+
+    void record(long nanos) {
+        counts[index(Math.max(0, nanos))]++;
+        count++;
+        min = Math.min(min, nanos);
+        max = Math.max(max, nanos);
+    }
+
+    long count() {
+        return count;
+    }
+
+    long max() {
+        return max;
+    }
+
+    /**
+     * The value below which {@code percentile} percent of the recorded values are, as the highest value of its bucket
+     * but no more than the maximum recorded.
+     */
+    long valueAt(double percentile) {
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank)
+                return Math.max(min, Math.min(max, highest(i)));
+        }
+        return max;
+    }
+
+    private static int index(long value) {
+        if (value < EXACT)
+            return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - 6;
+        return EXACT + (shift - 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    private static long highest(int index) {
+        if (index < EXACT)
+            return index;
+        int shift = (index - EXACT) / SUB_BUCKETS + 1;
+        long top = (index - EXACT) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+
+    /**
+     * The usual percentiles and the maximum, such as {@code p50=1.2 ms, p90=1.5 ms, p99=3.1 ms, p99.9=4.0 ms,
+     * max=4.2 ms}.
+     */
+    @Override
+    public String toString() {
+        return "p50=" + format(valueAt(50)) + ", p90=" + format(valueAt(90)) + ", p99=" + format(valueAt(99))
+                + ", p99.9=" + format(valueAt(99.9)) + ", max=" + format(max);
+    }
+
+    static String format(long nanos) {
+        if (nanos < 1_000)
+            return nanos + " ns";
+        if (nanos < 1_000_000)
+            return String.format(Locale.ROOT, "%.1f us", nanos / 1e3);
+        if (nanos < 1_000_000_000)
+            return String.format(Locale.ROOT, "%.1f ms", nanos / 1e6);
+        return String.format(Locale.ROOT, "%.2f s", nanos / 1e9);
+    }
+}
@@ -0,0 +1,50 @@
+package me.grison.vavr.matchers;
+
+import java.util.Objects;
+
+/**
+ * How many times the latency and allocation matchers of {@link VavrMatchers} run a function: first {@code warmups}
+ * times unmeasured, so that it gets compiled and its caches filled, then {@code samples} measured times.
+ * <p>
+ * The default, of 100 warmups and 1000 samples, can be changed with {@link #setDefault(LatencySampling)}.
+ */
+public final class LatencySampling {
+    private static volatile LatencySampling defaultSampling = new LatencySampling(100, 1_000);
+
+    private final int warmups;
+    private final int samples;
+
+    private LatencySampling(int warmups, int samples) {
+        this.warmups = warmups;
+        this.samples = samples;
+    }
+
+    public static LatencySampling of(int warmups, int samples) {
+        if (warmups < 0)
+            throw new IllegalArgumentException("warmups < 0");
+        if (samples < 1)
+            throw new IllegalArgumentException("At least one sample is needed");
+        return new LatencySampling(warmups, samples);
+    }
+
+    public static LatencySampling getDefault() {
+        return defaultSampling;
+    }
+
+    public static void setDefault(LatencySampling sampling) {
+        defaultSampling = Objects.requireNonNull(sampling, "sampling");
+    }
+
+    public int warmups() {
+        return warmups;
+    }
+
+    public int samples() {
+        return samples;
+    }
+
+    @Override
+    public String toString() {
+        return samples + " samples after " + warmups + " warmups";
+    }
+}
@@ -0,0 +1,160 @@
+package me.grison.vavr.matchers;
+
+import io.vavr.Function0;
+import io.vavr.Lazy;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Stream;
+import io.vavr.control.Option;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Wraps a lazy value to count how many of its elements, or how many evaluations, were forced through the wrapper,
+ * for use with {@link VavrMatchers#forcedAtMost(int)}, {@link VavrMatchers#evaluatedExactlyOnce()} and
+ * {@link VavrMatchers#notEvaluated()}.
+ * <p>
+ * The code under test must be given {@link #get()} rather than the original value. A probe created with a budget
+ * records the call site of the first forcing beyond it, so that a matcher with the same budget can tell where it was
+ * exceeded; no call site is recorded otherwise.
+ * <p>
+ * The instrumented value is only built by the first call to {@link #get()}. As the head of a non-empty {@link Stream}
+ * is always computed, that call forces the first element of a wrapped Stream, while a probe that was never handed out
+ * counts nothing.
+ */
+public final class LazinessProbe<T> {
+    private static final int NO_BUDGET = -1;
+
+    private final String unit;
+    private final int budget;
+    private final AtomicInteger forced = new AtomicInteger();
+    private volatile Throwable beyondBudget;
+    private final Lazy<T> value;
+
+    private LazinessProbe(String unit, int budget, Function<LazinessProbe<T>, T> instrument) {
+        this.unit = unit;
+        this.budget = budget;
+        this.value = Lazy.of(() -> instrument.apply(this));
+    }
+
+    public static <T> LazinessProbe<Stream<T>> stream(Stream<T> stream) {
+        return streamProbe(stream, NO_BUDGET);
+    }
+
+    public static <T> LazinessProbe<Stream<T>> stream(Stream<T> stream, int budget) {
+        return streamProbe(stream, nonNegative(budget));
+    }
+
+    public static <T> LazinessProbe<Iterator<T>> iterator(Iterator<T> iterator) {
+        return iteratorProbe(iterator, NO_BUDGET);
+    }
+
+    public static <T> LazinessProbe<Iterator<T>> iterator(Iterator<T> iterator, int budget) {
+        return iteratorProbe(iterator, nonNegative(budget));
+    }
+
+    public static <T> LazinessProbe<Lazy<T>> lazy(Lazy<T> lazy) {
+        return lazyProbe(lazy, NO_BUDGET);
+    }
+
+    public static <T> LazinessProbe<Lazy<T>> lazy(Lazy<T> lazy, int budget) {
+        return lazyProbe(lazy, nonNegative(budget));
+    }
+
+    public static <T> LazinessProbe<Function0<T>> function(Function0<T> function) {
+        return functionProbe(function, NO_BUDGET);
+    }
+
+    public static <T> LazinessProbe<Function0<T>> function(Function0<T> function, int budget) {
+        return functionProbe(function, nonNegative(budget));
+    }
+
+    private static <T> LazinessProbe<Stream<T>> streamProbe(Stream<T> stream, int budget) {
+        return new LazinessProbe<>("elements", budget, probe -> Stream.ofAll(probe.counting(stream.iterator())));
+    }
+
+    private static <T> LazinessProbe<Iterator<T>> iteratorProbe(Iterator<T> iterator, int budget) {
+        return new LazinessProbe<>("elements", budget, probe -> probe.counting(iterator));
+    }
+
+    private static <T> LazinessProbe<Lazy<T>> lazyProbe(Lazy<T> lazy, int budget) {
+        return new LazinessProbe<>("evaluations", budget, probe -> Lazy.of(() -> {
+            probe.force();
+            return lazy.get();
+        }));
+    }
+
+    private static <T> LazinessProbe<Function0<T>> functionProbe(Function0<T> function, int budget) {
+        return new LazinessProbe<>("evaluations", budget, probe -> () -> {
+            probe.force();
+            return function.apply();
+        });
+    }
+
+    private static int nonNegative(int budget) {
+        if (budget < 0)
+            throw new IllegalArgumentException("budget < 0");
+        return budget;
+    }
+
+    /**
+     * The instrumented value, to be given to the code under test.
+     */
+    public T get() {
+        return value.get();
+    }
+
+    /**
+     * How many elements or evaluations were forced so far.
+     */
+    public int forced() {
+        return forced.get();
+    }
+
+    /**
+     * What is counted, either {@code "elements"} or {@code "evaluations"}.
+     */
+    String unit() {
+        return unit;
+    }
+
+    /**
+     * The call site of the first forcing beyond {@code budget}, if this probe was created with that budget and it was
+     * exceeded.
+     */
+    Option<StackTraceElement> callSiteBeyond(int budget) {
+        Throwable callSite = beyondBudget;
+        if (budget != this.budget || callSite == null)
+            return Option.none();
+        return Iterator.of(callSite.getStackTrace())
+                .find(frame -> !frame.getClassName().startsWith(LazinessProbe.class.getName())
+                        && !frame.getClassName().startsWith("io.vavr.")
+                        && !frame.getClassName().startsWith("java."));
+    }
+
+    private <E> Iterator<E> counting(Iterator<E> iterator) {
+        return new Iterator<E>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public E next() {
+                force();
+                return iterator.next();
+            }
+        };
+    }
+
+    private void force() {
+        // only one thread sees the count go one beyond the budget, and NO_BUDGET never matches
+        if (forced.incrementAndGet() == budget + 1)
+            beyondBudget = new Throwable();
+    }
+
+    @Override
+    public String toString() {
+        return "LazinessProbe(" + forced() + " " + unit + " forced)";
+    }
+}
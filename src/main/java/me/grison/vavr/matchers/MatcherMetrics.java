@@ -0,0 +1,269 @@
+package me.grison.vavr.matchers;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Traversable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Records the cost of evaluating the matchers of {@link VavrMatchers}, to find which ones are expensive in a test
+ * suite.
+ * <p>
+ * Recording is disabled by default, and then costs a single volatile read per match. Once a {@link Sink} is enabled,
+ * each match and each description of a mismatch is timed and recorded with the name of the matcher, the type and size
+ * of its input, and its result.
+ * <pre>
+ * MatcherMetrics.Summary summary = MatcherMetrics.summary();
+ * MatcherMetrics.enable(summary);
+ * try {
+ *     // run the tests
+ * } finally {
+ *     MatcherMetrics.disable();
+ * }
+ * summary.top(10).forEach(System.out::println);
+ * </pre>
+ */
+public final class MatcherMetrics {
+    // compiled from src/main/jfr, apart from the Java 8 sources
+    private static final String FLIGHT_RECORDER = "me.grison.vavr.matchers.MatcherEvaluationEvent$Recorder";
+    private static volatile Sink sink;
+
+    private MatcherMetrics() {
+    }
+
+    /**
+     * Records every evaluation to {@code sink}, instead of any previously enabled sink.
+     */
+    public static void enable(Sink sink) {
+        MatcherMetrics.sink = java.util.Objects.requireNonNull(sink);
+    }
+
+    public static void disable() {
+        sink = null;
+    }
+
+    /**
+     * A new sink aggregating evaluations by matcher.
+     */
+    public static Summary summary() {
+        return new Summary();
+    }
+
+    /**
+     * A sink committing a {@code me.grison.vavr.matchers.Evaluation} JDK Flight Recorder event per evaluation, when
+     * such events are enabled in a recording.
+     *
+     * @throws UnsupportedOperationException on a JVM older than Java 11, or with a build of this library made on
+     *                                       JDK 8, which does not include the event
+     */
+    public static Sink flightRecorder() {
+        try {
+            return (Sink) Class.forName(FLIGHT_RECORDER).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new UnsupportedOperationException("JDK Flight Recorder events need Java 11 or later", e);
+        }
+    }
+
+    static boolean isEnabled() {
+        return sink != null;
+    }
+
+    static boolean match(String matcher, Object input, BooleanSupplier evaluation) {
+        Sink current = sink;
+        if (current == null)
+            return evaluation.getAsBoolean();
+        long start = System.nanoTime();
+        boolean matched = evaluation.getAsBoolean();
+        long nanos = System.nanoTime() - start;
+        current.record(new Evaluation(matcher, Phase.MATCH, input, matched, nanos));
+        return matched;
+    }
+
+    static void describeMismatch(String matcher, Object input, Runnable rendering) {
+        Sink current = sink;
+        if (current == null) {
+            rendering.run();
+            return;
+        }
+        long start = System.nanoTime();
+        rendering.run();
+        long nanos = System.nanoTime() - start;
+        current.record(new Evaluation(matcher, Phase.DESCRIBE_MISMATCH, input, false, nanos));
+    }
+
+    /**
+     * Where evaluations are recorded, possibly from several threads at once.
+     */
+    @FunctionalInterface
+    public interface Sink {
+        void record(Evaluation evaluation);
+
+        default Sink andThen(Sink other) {
+            return evaluation -> {
+                record(evaluation);
+                other.record(evaluation);
+            };
+        }
+    }
+
+    public enum Phase {
+        MATCH, DESCRIBE_MISMATCH
+    }
+
+    /**
+     * A single timed match, or description of a mismatch.
+     */
+    public static final class Evaluation {
+        private final String matcher;
+        private final Phase phase;
+        private final Class<?> inputType;
+        private final int inputSize;
+        private final boolean matched;
+        private final long nanos;
+
+        private Evaluation(String matcher, Phase phase, Object input, boolean matched, long nanos) {
+            this.matcher = matcher;
+            this.phase = phase;
+            this.inputType = input == null ? null : input.getClass();
+            this.inputSize = sizeOf(input);
+            this.matched = matched;
+            this.nanos = nanos;
+        }
+
+        // lazy inputs are not sized, so that recording does not force them
+        private static int sizeOf(Object input) {
+            if (input instanceof Traversable && ((Traversable<?>) input).hasDefiniteSize()
+                    && !((Traversable<?>) input).isLazy())
+                return ((Traversable<?>) input).size();
+            return -1;
+        }
+
+        /**
+         * The name of the factory method of the matcher, such as {@code "containsInAnyOrder"}.
+         */
+        public String matcher() {
+            return matcher;
+        }
+
+        public Phase phase() {
+            return phase;
+        }
+
+        /**
+         * The runtime type of the input, or {@code null} for a {@code null} input.
+         */
+        public Class<?> inputType() {
+            return inputType;
+        }
+
+        /**
+         * The size of a strict Traversable input, or -1 for other inputs.
+         */
+        public int inputSize() {
+            return inputSize;
+        }
+
+        /**
+         * Whether the input matched, always {@code false} when describing a mismatch.
+         */
+        public boolean matched() {
+            return matched;
+        }
+
+        public long nanos() {
+            return nanos;
+        }
+
+        @Override
+        public String toString() {
+            return matcher + " " + phase + " of " + (inputType == null ? "null" : inputType.getName())
+                    + (inputSize >= 0 ? "[" + inputSize + "]" : "") + ": " + matched + " in " + nanos + " ns";
+        }
+    }
+
+    /**
+     * A sink aggregating the evaluations of each matcher, both phases included.
+     */
+    public static final class Summary implements Sink {
+        private final java.util.Map<String, Totals> totals = new ConcurrentHashMap<>();
+
+        private Summary() {
+        }
+
+        @Override
+        public void record(Evaluation evaluation) {
+            totals.computeIfAbsent(evaluation.matcher(), name -> new Totals()).add(evaluation.nanos());
+        }
+
+        /**
+         * The {@code n} matchers which took the most time overall, the most expensive first.
+         */
+        public List<Cost> top(int n) {
+            return List.ofAll(totals.entrySet())
+                    .map(entry -> entry.getValue().cost(entry.getKey()))
+                    .sortBy(cost -> -cost.totalNanos())
+                    .take(n);
+        }
+
+        public void reset() {
+            totals.clear();
+        }
+    }
+
+    /**
+     * The aggregated cost of a matcher.
+     */
+    public static final class Cost {
+        private final String matcher;
+        private final long evaluations;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        private Cost(String matcher, long evaluations, long totalNanos, long maxNanos) {
+            this.matcher = matcher;
+            this.evaluations = evaluations;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public String matcher() {
+            return matcher;
+        }
+
+        public long evaluations() {
+            return evaluations;
+        }
+
+        public long totalNanos() {
+            return totalNanos;
+        }
+
+        public long maxNanos() {
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return matcher + ": " + evaluations + " evaluations in " + totalNanos + " ns (max " + maxNanos + " ns)";
+        }
+    }
+
+    private static final class Totals {
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        void add(long elapsed) {
+            evaluations.increment();
+            nanos.add(elapsed);
+            max.accumulate(elapsed);
+        }
+
+        Cost cost(String matcher) {
+            return new Cost(matcher, evaluations.sum(), nanos.sum(), max.get());
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package me.grison.vavr.matchers;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The objects reachable from a root, walked with an explicit stack and an identity set, each being counted once
+ * however many times it is referenced.
+ * <p>
+ * Sizes are estimated from the fields of the classes, as laid out by a 64-bit HotSpot JVM with compressed references:
+ * a 12 bytes object header, 16 bytes for arrays, 4 bytes per reference and a size rounded up to 8 bytes. The fields of
+ * JDK classes cannot be read on recent JVMs, so such objects are counted without what they reference, but for the
+ * characters of Strings. {@link Class} instances are shared metadata and are not counted.
+ * <p>
+ * The objects of the {@code io.vavr.collection} package, and the arrays they reference, are the structure of the
+ * collections, as opposed to their elements.
+ */
+final class ObjectGraph {
+    private static final int HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int ALIGNMENT = 8;
+    private static final ClassValue<Layout> LAYOUTS = new ClassValue<Layout>() {
+        @Override
+        protected Layout computeValue(Class<?> type) {
+            return new Layout(type);
+        }
+    };
+
+    /**
+     * Whether each reachable object is part of the structure of a collection.
+     */
+    private final Map<Object, Boolean> objects = new IdentityHashMap<>();
+    private final long shallowSize;
+    private long retainedSize;
+    private long structureSize;
+
+    private ObjectGraph(Object root) {
+        shallowSize = root == null ? 0 : sizeOf(root);
+        Deque<Object> stack = new ArrayDeque<>();
+        if (root != null && !(root instanceof Class)) {
+            objects.put(root, isStructure(root, true));
+            stack.push(root);
+        }
+        while (!stack.isEmpty()) {
+            Object object = stack.pop();
+            boolean structure = objects.get(object);
+            long size = sizeOf(object);
+            retainedSize += size;
+            if (structure)
+                structureSize += size;
+            for (Object child : references(object)) {
+                if (child != null && !(child instanceof Class) && !objects.containsKey(child)) {
+                    objects.put(child, isStructure(child, structure));
+                    stack.push(child);
+                }
+            }
+        }
+    }
+
+    static ObjectGraph of(Object root) {
+        return new ObjectGraph(root);
+    }
+
+    /**
+     * The size of the root alone.
+     */
+    long shallowSize() {
+        return shallowSize;
+    }
+
+    /**
+     * The size of all the objects reachable from the root, the root included.
+     */
+    long retainedSize() {
+        return retainedSize;
+    }
+
+    long structureSize() {
+        return structureSize;
+    }
+
+    int objectCount() {
+        return objects.size();
+    }
+
+    /**
+     * The size of the structure of this graph which is also reachable from the root of {@code other}.
+     */
+    long sharedStructureSize(ObjectGraph other) {
+        long shared = 0;
+        for (Map.Entry<Object, Boolean> object : objects.entrySet())
+            if (object.getValue() && other.objects.containsKey(object.getKey()))
+                shared += sizeOf(object.getKey());
+        return shared;
+    }
+
+    private static boolean isStructure(Object object, boolean referencedByStructure) {
+        Class<?> type = object.getClass();
+        return type.getName().startsWith("io.vavr.collection.") || (type.isArray() && referencedByStructure);
+    }
+
+    private static long sizeOf(Object object) {
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            Class<?> component = type.getComponentType();
+            return align(ARRAY_HEADER + (long) Array.getLength(object) * fieldSize(component));
+        }
+        Layout layout = LAYOUTS.get(type);
+        if (layout.opaque && object instanceof String)
+            return layout.size + align(ARRAY_HEADER + ((String) object).length());
+        return layout.size;
+    }
+
+    private static Iterable<Object> references(Object object) {
+        Class<?> type = object.getClass();
+        List<Object> references = new ArrayList<>();
+        if (type.isArray()) {
+            if (!type.getComponentType().isPrimitive())
+                for (Object element : (Object[]) object)
+                    references.add(element);
+            return references;
+        }
+        for (Field field : LAYOUTS.get(type).references) {
+            try {
+                references.add(field.get(object));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return references;
+    }
+
+    private static int fieldSize(Class<?> type) {
+        if (type == long.class || type == double.class)
+            return 8;
+        if (type == int.class || type == float.class)
+            return 4;
+        if (type == short.class || type == char.class)
+            return 2;
+        if (type == byte.class || type == boolean.class)
+            return 1;
+        return REFERENCE;
+    }
+
+    private static long align(long size) {
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    /**
+     * The estimated size of the instances of a class, and its fields holding references when they can be read.
+     */
+    private static final class Layout {
+        private final long size;
+        private final List<Field> references = new ArrayList<>();
+        private boolean opaque;
+
+        private Layout(Class<?> type) {
+            long fields = 0;
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()))
+                        continue;
+                    fields += fieldSize(field.getType());
+                    if (!field.getType().isPrimitive() && !opaque) {
+                        try {
+                            field.setAccessible(true);
+                            references.add(field);
+                        } catch (RuntimeException e) {
+                            // a JDK class whose fields are not opened to us
+                            opaque = true;
+                            references.clear();
+                        }
+                    }
+                }
+            }
+            size = align(HEADER + fields);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package me.grison.vavr.matchers;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.Traversable;
+import io.vavr.collection.Vector;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Tests the elements of a Traversable in parallel, by splitting it into contiguous chunks evaluated on an
+ * {@link Executor}. Chunks share a flag so that all of them stop as soon as the answer is known.
+ * <p>
+ * Indexed sequences are split as they are, other Traversables are first copied into a {@link Vector}. The mismatch
+ * diagnostic the element matchers may leave on a pool thread is dropped once its chunk is scanned.
+ */
+final class ParallelScan<T> {
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final IndexedSeq<T> seq;
+    private final Executor executor;
+    private final int chunkSize;
+
+    ParallelScan(Traversable<T> t, Executor executor) {
+        this.seq = t instanceof IndexedSeq ? (IndexedSeq<T>) t : t.toVector();
+        this.executor = executor;
+        int parallelism = executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.chunkSize = Math.max(1, (seq.size() + parallelism * CHUNKS_PER_THREAD - 1) / (parallelism * CHUNKS_PER_THREAD));
+    }
+
+    /**
+     * The scanned elements, copied into a {@link Vector} when the Traversable was not indexed.
+     */
+    IndexedSeq<T> elements() {
+        return seq;
+    }
+
+    /**
+     * Whether at least one element satisfies {@code predicate}, every chunk stopping at the first hit.
+     */
+    boolean anyMatch(Predicate<? super T> predicate) {
+        AtomicBoolean found = new AtomicBoolean();
+        run((chunk, from, to) -> {
+            for (int i = from; i < to && !found.get(); i++) {
+                if (predicate.test(seq.get(i)))
+                    found.set(true);
+            }
+        });
+        return found.get();
+    }
+
+    /**
+     * At most {@code limit} elements satisfying {@code predicate}, in order, along with whether there may be more.
+     * <p>
+     * The first hit is always reported. Each chunk stops after {@code limit} hits, and chunks after one that found a
+     * hit stop as soon as they notice it, so later hits are only those found by then.
+     */
+    Tuple2<Vector<T>, Boolean> first(Predicate<? super T> predicate, int limit) {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        java.util.List<T>[] hits = new java.util.List[chunks()];
+        AtomicInteger cutoff = new AtomicInteger(Integer.MAX_VALUE);
+        AtomicBoolean truncated = new AtomicBoolean();
+        run((chunk, from, to) -> {
+            java.util.List<T> found = new ArrayList<>();
+            hits[chunk] = found;
+            for (int i = from; i < to; i++) {
+                if (found.size() == limit || chunk > cutoff.get()) {
+                    truncated.set(true);
+                    return;
+                }
+                T element = seq.get(i);
+                if (predicate.test(element)) {
+                    found.add(element);
+                    cutoff.accumulateAndGet(chunk, Math::min);
+                }
+            }
+        });
+        Vector<T> first = Vector.empty();
+        for (java.util.List<T> found : hits) {
+            first = first.appendAll(found);
+            if (first.size() > limit)
+                return Tuple.of(first.take(limit), true);
+        }
+        return Tuple.of(first, truncated.get());
+    }
+
+    private int chunks() {
+        return (seq.size() + chunkSize - 1) / chunkSize;
+    }
+
+    private void run(Chunk chunk) {
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[chunks()];
+        for (int i = 0; i < tasks.length; i++) {
+            int index = i, from = i * chunkSize, to = Math.min(seq.size(), from + chunkSize);
+            tasks[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    chunk.scan(index, from, to);
+                } finally {
+                    VavrMatchers.dropMismatch();
+                }
+            }, executor);
+        }
+        try {
+            CompletableFuture.allOf(tasks).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            if (e.getCause() instanceof Error)
+                throw (Error) e.getCause();
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Chunk {
+        void scan(int chunk, int from, int to);
+    }
+}
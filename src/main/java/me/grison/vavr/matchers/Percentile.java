@@ -0,0 +1,39 @@
+package me.grison.vavr.matchers;
+
+/**
+ * A percentile of the latencies measured by {@link VavrMatchers#hasLatency(Percentile, org.hamcrest.Matcher)}, such
+ * as {@code VavrMatchers.percentile(99)}.
+ */
+public final class Percentile {
+    private final double value;
+
+    private Percentile(double value) {
+        this.value = value;
+    }
+
+    /**
+     * @param value between 0, exclusive, and 100, inclusive
+     */
+    public static Percentile of(double value) {
+        if (!(value > 0 && value <= 100))
+            throw new IllegalArgumentException("A percentile must be in ]0, 100]");
+        return new Percentile(value);
+    }
+
+    public double value() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        if (value != Math.rint(value))
+            return value + "th percentile";
+        int integer = (int) value;
+        String suffix = integer % 100 / 10 == 1 ? "th"
+                : integer % 10 == 1 ? "st"
+                : integer % 10 == 2 ? "nd"
+                : integer % 10 == 3 ? "rd"
+                : "th";
+        return integer + suffix + " percentile";
+    }
+}
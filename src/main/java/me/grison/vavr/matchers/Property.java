@@ -0,0 +1,187 @@
+package me.grison.vavr.matchers;
+
+import io.vavr.Tuple2;
+import io.vavr.control.Option;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Checks that generated values all match a matcher.
+ * <p>
+ * Samples are split into shards evaluated in parallel, each drawing from its own {@link Random} seeded from the seed
+ * of the property, so that a run is reproducible whatever the scheduling. All shards stop once a counterexample is
+ * found, which is then shrunk to a simpler one, see {@link Shrinking}, and reported with the description of the
+ * matcher and its mismatch.
+ * <pre>
+ * Property.forAll(Gen.list(Gen.choose(0, 100), 50), isSorted()).samples(10_000).check();
+ * </pre>
+ */
+public final class Property<T> {
+    private static final int DEFAULT_SHARDS = 8;
+
+    private final Gen<T> gen;
+    private final Matcher<? super T> matcher;
+    private final int samples;
+    private final long seed;
+    private final int shards;
+    private final Executor executor;
+
+    private Property(Gen<T> gen, Matcher<? super T> matcher, int samples, long seed, int shards, Executor executor) {
+        this.gen = gen;
+        this.matcher = matcher;
+        this.samples = samples;
+        this.seed = seed;
+        this.shards = shards;
+        this.executor = executor;
+    }
+
+    /**
+     * A property checking 1000 samples with a random seed, on {@value #DEFAULT_SHARDS} shards run by the common
+     * {@link ForkJoinPool}. The number of shards does not depend on the machine, as the samples drawn from a seed
+     * depend on it.
+     */
+    public static <T> Property<T> forAll(Gen<T> gen, Matcher<? super T> matcher) {
+        return new Property<>(gen, matcher, 1_000, new Random().nextLong(), DEFAULT_SHARDS, ForkJoinPool.commonPool());
+    }
+
+    public Property<T> samples(int samples) {
+        return new Property<>(gen, matcher, samples, seed, shards, executor);
+    }
+
+    public Property<T> seed(long seed) {
+        return new Property<>(gen, matcher, samples, seed, shards, executor);
+    }
+
+    public Property<T> shards(int shards) {
+        if (shards < 1)
+            throw new IllegalArgumentException("At least one shard is needed");
+        return new Property<>(gen, matcher, samples, seed, shards, executor);
+    }
+
+    public Property<T> executor(Executor executor) {
+        return new Property<>(gen, matcher, samples, seed, shards, executor);
+    }
+
+    /**
+     * @throws AssertionError describing the shrunk counterexample, if one was found
+     */
+    public void check() {
+        falsify().peek(counterexample -> {
+            throw new AssertionError(counterexample.toString());
+        });
+    }
+
+    /**
+     * Runs the property.
+     *
+     * @return the counterexample found, if any
+     */
+    public Option<Counterexample<T>> falsify() {
+        // samples are ordered by their index in their shard, then by shard, so that the counterexample found is the
+        // first one in that order whatever the scheduling
+        AtomicLong first = new AtomicLong(Long.MAX_VALUE);
+        java.util.Map<Long, T> found = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[shards];
+        for (int s = 0; s < shards; s++) {
+            int shard = s, size = samples / shards + (shard < samples % shards ? 1 : 0);
+            tasks[shard] = CompletableFuture.runAsync(() -> {
+                try {
+                    sample(shard, size, first, found);
+                } finally {
+                    VavrMatchers.dropMismatch();
+                }
+            }, executor);
+        }
+        try {
+            CompletableFuture.allOf(tasks).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            if (e.getCause() instanceof Error)
+                throw (Error) e.getCause();
+            throw e;
+        }
+        if (first.get() == Long.MAX_VALUE)
+            return Option.none();
+        long order = first.get();
+        T original = found.get(order);
+        Tuple2<T, Integer> shrunk = Shrinking.shrink(original, matcher);
+        return Option.some(new Counterexample<>(this, (int) (order % shards), (int) (order / shards),
+                original, shrunk._1, shrunk._2));
+    }
+
+    /**
+     * Checks the {@code size} samples of {@code shard}, until one fails or one before it in order failed.
+     */
+    private void sample(int shard, int size, AtomicLong first, java.util.Map<Long, T> found) {
+        Random random = new Random(shardSeed(shard));
+        for (int index = 0; index < size; index++) {
+            long order = (long) index * shards + shard;
+            if (order > first.get())
+                return;
+            T value = gen.apply(random);
+            if (!matcher.matches(value)) {
+                found.put(order, value);
+                first.accumulateAndGet(order, Math::min);
+                return;
+            }
+        }
+    }
+
+    private long shardSeed(int shard) {
+        return seed + shard * 0x9E3779B97F4A7C15L;
+    }
+
+    /**
+     * A value failing the matcher of a property, along with the simplest value it was shrunk to.
+     */
+    public static final class Counterexample<T> {
+        private final Property<T> property;
+        private final int shard;
+        private final int index;
+        private final T original;
+        private final T shrunk;
+        private final int steps;
+
+        private Counterexample(Property<T> property, int shard, int index, T original, T shrunk, int steps) {
+            this.property = property;
+            this.shard = shard;
+            this.index = index;
+            this.original = original;
+            this.shrunk = shrunk;
+            this.steps = steps;
+        }
+
+        public T original() {
+            return original;
+        }
+
+        public T shrunk() {
+            return shrunk;
+        }
+
+        @Override
+        public String toString() {
+            Description description = new StringDescription();
+            RenderingBudget budget = RenderingBudget.current();
+            description.appendText("Property falsified by sample " + index + " of shard " + shard
+                    + " (seed " + property.seed + ", " + property.shards + " shards)\nOriginal: ");
+            budget.appendValue(description, original);
+            description.appendText("\nShrunk in " + steps + " steps: ");
+            budget.appendValue(description, shrunk);
+            description.appendText("\nExpected: ").appendDescriptionOf(property.matcher)
+                    .appendText("\n     but: ");
+            property.matcher.describeMismatch(shrunk, description);
+            return description.toString();
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package me.grison.vavr.matchers;
+
+import io.vavr.Lazy;
+import io.vavr.Tuple;
+import io.vavr.Value;
+import io.vavr.collection.CharSeq;
+import io.vavr.collection.Traversable;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import io.vavr.control.Validation;
+import org.hamcrest.BaseDescription;
+import org.hamcrest.Description;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Bounds how much of a collection the {@link VavrMatchers} descriptions render, so that a failure on a huge input
+ * does not produce a huge message.
+ * <p>
+ * Only the first {@code head} and the last {@code tail} elements of a collection are rendered, the others being
+ * summarized by their count, and every rendered value is cut after {@code maxValueLength} characters. Elements are
+ * streamed into the {@link Description}, only the last {@code tail} of them being buffered.
+ * <p>
+ * The budget applies globally, see {@link #setDefault(RenderingBudget)}, or to a single matcher, see
+ * {@link VavrMatchers#withRenderingBudget(RenderingBudget, org.hamcrest.Matcher)}.
+ */
+public final class RenderingBudget {
+    private static final RenderingBudget UNLIMITED = new RenderingBudget(Integer.MAX_VALUE, 0, Integer.MAX_VALUE);
+    private static volatile RenderingBudget defaultBudget = new RenderingBudget(50, 10, 1000);
+    private static final ThreadLocal<RenderingBudget> scoped = new ThreadLocal<>();
+
+    private final int head;
+    private final int tail;
+    private final int maxValueLength;
+
+    private RenderingBudget(int head, int tail, int maxValueLength) {
+        this.head = head;
+        this.tail = tail;
+        this.maxValueLength = maxValueLength;
+    }
+
+    /**
+     * @param head           the number of leading elements of a collection to render
+     * @param tail           the number of trailing elements of a collection to render
+     * @param maxValueLength the number of characters after which a single value is cut
+     */
+    public static RenderingBudget of(int head, int tail, int maxValueLength) {
+        if (head < 0 || tail < 0 || maxValueLength < 0)
+            throw new IllegalArgumentException("A rendering budget cannot be negative");
+        return new RenderingBudget(head, tail, maxValueLength);
+    }
+
+    public static RenderingBudget unlimited() {
+        return UNLIMITED;
+    }
+
+    public static RenderingBudget getDefault() {
+        return defaultBudget;
+    }
+
+    public static void setDefault(RenderingBudget budget) {
+        defaultBudget = Objects.requireNonNull(budget, "budget");
+    }
+
+    /**
+     * The budget of the matcher being rendered on this thread, or the default one.
+     */
+    static RenderingBudget current() {
+        RenderingBudget budget = scoped.get();
+        return budget != null ? budget : defaultBudget;
+    }
+
+    /**
+     * Runs {@code rendering} with this budget as the {@link #current()} one.
+     */
+    void apply(Runnable rendering) {
+        RenderingBudget previous = scoped.get();
+        scoped.set(this);
+        try {
+            rendering.run();
+        } finally {
+            if (previous == null)
+                scoped.remove();
+            else
+                scoped.set(previous);
+        }
+    }
+
+    /**
+     * Appends the elements between {@code start} and {@code end}, the ones out of the budget being replaced by their
+     * count.
+     */
+    <E> void appendList(Description description, String start, String separator, String end,
+                        Iterable<? extends E> elements, BiConsumer<Description, E> appendElement) {
+        description.appendText(start);
+        Object[] last = null;
+        int rendered = 0, skipped = 0, buffered = 0;
+        for (E element : elements) {
+            if (rendered < head) {
+                if (rendered++ > 0)
+                    description.appendText(separator);
+                appendElement.accept(description, element);
+            } else if (tail > 0) {
+                if (last == null)
+                    last = new Object[tail];
+                if (buffered == tail)
+                    skipped++;
+                else
+                    buffered++;
+                last[(skipped + buffered - 1) % tail] = element;
+            } else {
+                skipped++;
+            }
+        }
+        if (skipped > 0)
+            description.appendText((rendered > 0 ? separator : "") + "..." + skipped + " more...");
+        for (int i = 0; i < buffered; i++) {
+            if (rendered + skipped + i > 0)
+                description.appendText(separator);
+            @SuppressWarnings("unchecked")
+            E element = (E) last[(skipped + i) % tail];
+            appendElement.accept(description, element);
+        }
+        description.appendText(end);
+    }
+
+    /**
+     * Appends a value the way {@link Description#appendValue(Object)} does, cut after {@code maxValueLength}
+     * characters.
+     * <p>
+     * The value is rendered into a {@link BoundedDescription} which stops the rendering once the budget is used up,
+     * so that the rest of a long String, or the remaining elements of an array, are neither escaped nor rendered.
+     * Vavr values are rendered as their {@code toString} would, see {@link #appendStructure(Description, Object)}.
+     */
+    void appendValue(Description description, Object value) {
+        if (maxValueLength == Integer.MAX_VALUE) {
+            description.appendValue(value);
+            return;
+        }
+        appendBounded(description, bounded -> {
+            if (isStructure(value)) {
+                bounded.appendText("<");
+                appendStructure(bounded, value);
+                bounded.appendText(">");
+            } else {
+                bounded.appendValue(value);
+            }
+        });
+    }
+
+    /**
+     * Appends the {@code String.valueOf} of a value, cut after {@code maxValueLength} characters.
+     */
+    void appendString(Description description, Object value) {
+        if (maxValueLength == Integer.MAX_VALUE)
+            description.appendText(String.valueOf(value));
+        else
+            appendBounded(description, bounded -> appendStructure(bounded, value));
+    }
+
+    private void appendBounded(Description description, Consumer<Description> rendering) {
+        BoundedDescription bounded = new BoundedDescription(maxValueLength);
+        try {
+            rendering.accept(bounded);
+            description.appendText(bounded.text.toString());
+        } catch (BudgetExhausted e) {
+            description.appendText(bounded.text + "...");
+        }
+    }
+
+    private static boolean isStructure(Object value) {
+        return value instanceof Value && !(value instanceof CharSeq) || value instanceof Tuple;
+    }
+
+    /**
+     * Appends the {@code toString} of a value, the elements of strict Vavr collections being rendered within the
+     * budget of a collection, and the contents of Vavr values and tuples being rendered the same way, so that a huge
+     * collection nested in a value is not rendered in full before being cut.
+     * <p>
+     * Lazy collections are rendered by their {@code toString}, which does not force them.
+     */
+    private void appendStructure(Description description, Object value) {
+        if (value instanceof Traversable && !(value instanceof CharSeq) && !((Traversable<?>) value).isLazy()) {
+            Traversable<?> traversable = (Traversable<?>) value;
+            appendList(description, traversable.stringPrefix() + "(", ", ", ")", traversable, this::appendStructure);
+        } else if (value instanceof Tuple) {
+            appendList(description, "(", ", ", ")", ((Tuple) value).toSeq(), this::appendStructure);
+        } else if (value instanceof Option && ((Option<?>) value).isDefined()) {
+            appendContent(description, "Some", ((Option<?>) value).get());
+        } else if (value instanceof Try && ((Try<?>) value).isSuccess()) {
+            appendContent(description, "Success", ((Try<?>) value).get());
+        } else if (value instanceof Either) {
+            Either<?, ?> either = (Either<?, ?>) value;
+            appendContent(description, either.isRight() ? "Right" : "Left", either.isRight() ? either.get() : either.getLeft());
+        } else if (value instanceof Validation) {
+            Validation<?, ?> validation = (Validation<?, ?>) value;
+            appendContent(description, validation.isValid() ? "Valid" : "Invalid",
+                    validation.isValid() ? validation.get() : validation.getError());
+        } else if (value instanceof Lazy && ((Lazy<?>) value).isEvaluated()) {
+            appendContent(description, "Lazy", ((Lazy<?>) value).get());
+        } else {
+            description.appendText(String.valueOf(value));
+        }
+    }
+
+    private void appendContent(Description description, String prefix, Object content) {
+        description.appendText(prefix + "(");
+        appendStructure(description, content);
+        description.appendText(")");
+    }
+
+    /**
+     * Keeps at most {@code limit} characters, throwing {@link BudgetExhausted} on the next one.
+     */
+    private static final class BoundedDescription extends BaseDescription {
+        private final StringBuilder text = new StringBuilder();
+        private final int limit;
+
+        private BoundedDescription(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        protected void append(char c) {
+            if (text.length() == limit)
+                throw BudgetExhausted.INSTANCE;
+            text.append(c);
+        }
+    }
+
+    /**
+     * Stops the rendering of a value, without a stack trace as it is always caught.
+     */
+    private static final class BudgetExhausted extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private static final BudgetExhausted INSTANCE = new BudgetExhausted();
+
+        private BudgetExhausted() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package me.grison.vavr.matchers;
+
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The shortest edit script turning an expected sequence into an actual one, computed with Myers' O(ND) algorithm
+ * after trimming their common prefix and suffix.
+ * <p>
+ * Consecutive edits are grouped into runs: elements missing from the actual sequence, unexpected elements in it, or
+ * both, when expected elements were changed into others. The search gives up beyond {@value #MAX_EDITS} edits, as its
+ * cost grows with the product of the lengths and of the number of edits, and the memory kept to backtrack with the
+ * square of the number of edits.
+ */
+final class SeqDiff {
+    static final int MAX_EDITS = 1_000;
+
+    private SeqDiff() {
+    }
+
+    /**
+     * @return the runs of the edit script, in order, or none if it needs more than {@value #MAX_EDITS} edits
+     */
+    static Option<Vector<Run>> diff(Object[] expected, Object[] actual) {
+        int prefix = 0;
+        while (prefix < expected.length && prefix < actual.length && Objects.equals(expected[prefix], actual[prefix]))
+            prefix++;
+        int suffix = 0;
+        while (suffix < expected.length - prefix && suffix < actual.length - prefix
+                && Objects.equals(expected[expected.length - 1 - suffix], actual[actual.length - 1 - suffix]))
+            suffix++;
+        return new Search(expected, actual, prefix, expected.length - suffix, actual.length - suffix).edits();
+    }
+
+    /**
+     * The expected elements from {@code expectedFrom} to {@code expectedTo}, exclusive, replaced by the actual ones
+     * from {@code actualFrom} to {@code actualTo}, exclusive. Either range may be empty, but not both.
+     */
+    static final class Run {
+        final int expectedFrom;
+        final int expectedTo;
+        final int actualFrom;
+        final int actualTo;
+
+        private Run(int expectedFrom, int expectedTo, int actualFrom, int actualTo) {
+            this.expectedFrom = expectedFrom;
+            this.expectedTo = expectedTo;
+            this.actualFrom = actualFrom;
+            this.actualTo = actualTo;
+        }
+    }
+
+    private static final class Search {
+        private final Object[] expected;
+        private final Object[] actual;
+        private final int offset;
+        private final int n;
+        private final int m;
+
+        /**
+         * A search on {@code expected[offset..expectedTo)} and {@code actual[offset..actualTo)}.
+         */
+        private Search(Object[] expected, Object[] actual, int offset, int expectedTo, int actualTo) {
+            this.expected = expected;
+            this.actual = actual;
+            this.offset = offset;
+            this.n = expectedTo - offset;
+            this.m = actualTo - offset;
+        }
+
+        Option<Vector<Run>> edits() {
+            int max = Math.min(n + m, MAX_EDITS);
+            // furthest reaching x on each diagonal k = x - y, stored at k + max + 1
+            int[] v = new int[2 * max + 3];
+            List<int[]> trace = new ArrayList<>();
+            for (int d = 0; d <= max; d++) {
+                for (int k = -d; k <= d; k += 2) {
+                    int x = k == -d || k != d && v[k - 1 + max + 1] < v[k + 1 + max + 1]
+                            ? v[k + 1 + max + 1]
+                            : v[k - 1 + max + 1] + 1;
+                    int y = x - k;
+                    while (x < n && y < m && Objects.equals(expected[offset + x], actual[offset + y])) {
+                        x++;
+                        y++;
+                    }
+                    v[k + max + 1] = x;
+                    if (x >= n && y >= m)
+                        return Option.some(backtrack(trace, d));
+                }
+                trace.add(Arrays.copyOfRange(v, -d + max + 1, d + max + 2));
+            }
+            return Option.none();
+        }
+
+        /**
+         * Walks the trace back from the end, then groups the edits found into runs.
+         *
+         * @param trace the furthest reaching x on diagonals -d to d, after each step d before the last one
+         */
+        private Vector<Run> backtrack(List<int[]> trace, int edits) {
+            // the position of each edit, and whether it is an insertion of an actual element
+            int[] xs = new int[edits];
+            int[] ys = new int[edits];
+            boolean[] insertions = new boolean[edits];
+            int x = n, y = m;
+            for (int d = edits; d > 0; d--) {
+                int[] previous = trace.get(d - 1);
+                int k = x - y;
+                boolean insertion = k == -d || k != d && previous[k - 1 + d - 1] < previous[k + 1 + d - 1];
+                int previousK = insertion ? k + 1 : k - 1;
+                x = previous[previousK + d - 1];
+                y = x - previousK;
+                xs[d - 1] = x;
+                ys[d - 1] = y;
+                insertions[d - 1] = insertion;
+            }
+            Vector<Run> runs = Vector.empty();
+            int i = 0;
+            while (i < edits) {
+                int expectedFrom = xs[i], actualFrom = ys[i];
+                int expectedTo = expectedFrom, actualTo = actualFrom;
+                for (; i < edits && xs[i] == expectedTo && ys[i] == actualTo; i++) {
+                    if (insertions[i])
+                        actualTo++;
+                    else
+                        expectedTo++;
+                }
+                runs = runs.append(new Run(offset + expectedFrom, offset + expectedTo,
+                        offset + actualFrom, offset + actualTo));
+            }
+            return runs;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package me.grison.vavr.matchers;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Map;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Set;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.hamcrest.Matcher;
+
+/**
+ * Shrinks a counterexample to a simpler one still failing a matcher, based on its runtime type: shorter Seqs and
+ * Strings, smaller Sets and Maps, empty Options, numbers closer to zero, and simpler contents of Options, Eithers and
+ * Trys.
+ */
+final class Shrinking {
+    static final int MAX_STEPS = 1_000;
+
+    private Shrinking() {
+    }
+
+    /**
+     * Greedily replaces {@code value} by its first simpler candidate failing {@code matcher}, until none does.
+     *
+     * @return the simplest counterexample found, along with the number of steps taken
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Tuple2<T, Integer> shrink(T value, Matcher<? super T> matcher) {
+        Object current = value;
+        int steps = 0;
+        while (steps < MAX_STEPS) {
+            Option<Object> simpler = candidates(current).find(candidate -> !matcher.matches(candidate));
+            if (simpler.isEmpty())
+                break;
+            current = simpler.get();
+            steps++;
+        }
+        return Tuple.of((T) current, steps);
+    }
+
+    /**
+     * The values simpler than {@code value}, the most aggressive first, computed lazily.
+     */
+    @SuppressWarnings("unchecked")
+    static Iterator<Object> candidates(Object value) {
+        if (value instanceof Integer) {
+            int i = (Integer) value;
+            return Iterator.<Object>of(0, i / 2, i - Integer.signum(i)).distinct().filter(c -> !c.equals(i));
+        }
+        if (value instanceof Long) {
+            long l = (Long) value;
+            return Iterator.<Object>of(0L, l / 2, l - Long.signum(l)).distinct().filter(c -> !c.equals(l));
+        }
+        if (value instanceof String) {
+            String s = (String) value;
+            return concat(Iterator.of("", s.substring(0, s.length() / 2)),
+                    Iterator.range(0, s.length()).map(i -> s.substring(0, i) + s.substring(i + 1)))
+                    .distinct().filter(c -> !c.equals(s));
+        }
+        if (value instanceof Seq) {
+            Seq<Object> seq = (Seq<Object>) value;
+            int size = seq.size();
+            if (size == 0)
+                return Iterator.empty();
+            return concat(Iterator.of(seq.take(0), seq.take(size / 2), seq.drop(size / 2)).filter(c -> c.size() < size),
+                    Iterator.range(0, size).map(seq::removeAt),
+                    Iterator.range(0, size).flatMap(i -> candidates(seq.get(i)).map(c -> seq.update(i, c))));
+        }
+        if (value instanceof Set) {
+            Set<Object> set = (Set<Object>) value;
+            return set.isEmpty() ? Iterator.empty() : concat(Iterator.of(set.take(0)), set.iterator().map(set::remove));
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> map = (Map<Object, Object>) value;
+            if (map.isEmpty())
+                return Iterator.empty();
+            return concat(Iterator.of(map.take(0)),
+                    map.keysIterator().map(map::remove),
+                    map.iterator().flatMap(entry -> candidates(entry._2).map(c -> map.put(entry._1, c))));
+        }
+        if (value instanceof Option) {
+            Option<Object> option = (Option<Object>) value;
+            return option.isEmpty() ? Iterator.empty()
+                    : concat(Iterator.of(Option.none()), candidates(option.get()).map(Option::some));
+        }
+        if (value instanceof Either) {
+            Either<Object, Object> either = (Either<Object, Object>) value;
+            return either.isRight()
+                    ? candidates(either.get()).map(Either::right)
+                    : candidates(either.getLeft()).map(Either::left);
+        }
+        if (value instanceof Try) {
+            Try<Object> t = (Try<Object>) value;
+            return t.isFailure() ? Iterator.empty() : candidates(t.get()).map(Try::success);
+        }
+        return Iterator.empty();
+    }
+
+    private static Iterator<Object> concat(Iterator<?>... parts) {
+        return Iterator.of(parts).flatMap(part -> part);
+    }
+}
@@ -0,0 +1,75 @@
+package me.grison.vavr.matchers;
+
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Tree;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Walks the nodes of a {@link Tree} in preorder with an explicit stack, so that deep trees do not overflow the call
+ * stack and the walk can stop at any node.
+ * <p>
+ * The path of the current node is kept as the indices of it and of its ancestors among their siblings, and only
+ * rendered on demand, such as {@code $[2][0]} for the first child of the third child of the root.
+ */
+final class TreeWalk<T> {
+    private final Tree<T> tree;
+    private final Deque<Iterator<Tree.Node<T>>> children = new ArrayDeque<>();
+    private int[] indices = new int[16];
+    private Tree.Node<T> current;
+
+    TreeWalk(Tree<T> tree) {
+        this.tree = tree;
+    }
+
+    /**
+     * Moves to the next node, the root first.
+     *
+     * @param descend whether to walk the descendants of the current node, rather than skip them
+     * @return whether there was a next node
+     */
+    boolean next(boolean descend) {
+        if (current == null) {
+            if (tree.isEmpty())
+                return false;
+            current = (Tree.Node<T>) tree;
+            return true;
+        }
+        if (descend && !current.isLeaf()) {
+            children.push(current.getChildren().iterator());
+            if (children.size() > indices.length)
+                indices = Arrays.copyOf(indices, indices.length * 2);
+            indices[children.size() - 1] = -1;
+        }
+        while (!children.isEmpty()) {
+            Iterator<Tree.Node<T>> siblings = children.peek();
+            if (siblings.hasNext()) {
+                current = siblings.next();
+                indices[children.size() - 1]++;
+                return true;
+            }
+            children.pop();
+        }
+        return false;
+    }
+
+    Tree.Node<T> node() {
+        return current;
+    }
+
+    /**
+     * The depth of the current node, the root being at depth 0.
+     */
+    int depth() {
+        return children.size();
+    }
+
+    String path() {
+        StringBuilder path = new StringBuilder("$");
+        for (int i = 0; i < children.size(); i++)
+            path.append('[').append(indices[i]).append(']');
+        return path.toString();
+    }
+}
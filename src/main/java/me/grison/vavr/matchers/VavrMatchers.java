@@ -5,30 +5,48 @@ import io.vavr.collection.*;
 import io.vavr.concurrent.Future;
 import io.vavr.control.*;
 import lombok.experimental.UtilityClass;
+import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
+import org.hamcrest.StringDescription;
 import org.hamcrest.TypeSafeMatcher;
 import org.hamcrest.core.IsAnything;
 
-import java.util.List;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
 
 import static io.vavr.control.Either.left;
 import static io.vavr.control.Either.right;
 import static io.vavr.control.Try.failure;
 import static io.vavr.control.Try.success;
-import static java.util.Collections.indexOfSubList;
 import static org.hamcrest.Matchers.is;
 
 @UtilityClass
 public class VavrMatchers {
+    private static final int REPORTED_FAILURES = 10;
+    private static final SelfDescribing NO_EXTREMUM = description -> description.appendText("it was empty");
+
     //region Values & Controls
 
     //region Option
     public static <T> Matcher<Value<T>> isDefined(Matcher<T> matcher) {
-        return typeSafeMatcher(
+        return typeSafeMatcher("isDefined",
                 v -> v.map(matcher::matches).getOrElse(false),
                 description -> description.appendValue("Expected a value with content matching ")
                         .appendDescriptionOf(matcher),
@@ -41,25 +59,28 @@ public class VavrMatchers {
     }
 
     public static <T> Matcher<Value<T>> isEmpty() {
-        return typeSafeMatcher(
+        return typeSafeMatcher("isEmpty",
                 Value::isEmpty,
                 description -> description.appendText("Expected an empty value"),
                 (v, mismatch) -> {
-                    List<T> values = v.collect(Collectors.toList());
-                    v.peek(value -> mismatch.appendText("Expected an empty value but found "))
-                            .peek(val -> mismatch.appendValue(values.size() > 1 ? values : val));
+                    Iterator<T> values = v.iterator();
+                    if (!values.hasNext())
+                        return;
+                    T first = values.next();
+                    mismatch.appendText("Expected an empty value but found ")
+                            .appendDescriptionOf(values.hasNext() ? stringList("<[", Iterator.of(first).concat(values), "]>") : value(first));
                 });
     }
     //endregion
 
     //region Try
     public static <T> Matcher<Try<T>> isSuccess(Matcher<T> matcher) {
-        return typeSafeMatcher(
+        return typeSafeMatcher("isSuccess",
                 v -> v.map(matcher::matches).getOrElse(false),
                 description -> description.appendValue("Expected a <Success> with content matching: ")
                         .appendDescriptionOf(matcher),
                 (v, mismatch) -> v.toTry()
-                        .onFailure(e -> mismatch.appendText("Expected a <Success> but found ").appendValue(failure(e)))
+                        .onFailure(e -> mismatch.appendText("Expected a <Success> but found ").appendDescriptionOf(value(failure(e))))
                         .onSuccess(val -> matcher.describeMismatch(val,
                                 mismatch.appendText("Expected a <Success> with content matching `")
                                         .appendDescriptionOf(matcher)
@@ -71,15 +92,15 @@ public class VavrMatchers {
     }
 
     public static <T> Matcher<Try<T>> isFailure() {
-        return typeSafeMatcher(
+        return typeSafeMatcher("isFailure",
                 Try::isFailure,
                 description -> description.appendText("Expected a <Failure> but it was not"),
                 (v, mismatch) -> v.onSuccess(val -> mismatch.appendText("Expected a <Failure> but found ")
-                        .appendValue(success(val))));
+                        .appendDescriptionOf(value(success(val)))));
     }
 
     public static <T, E extends Throwable> Matcher<Try<T>> isFailure(Class<E> clazz) {
-        return typeSafeMatcher(
+        return typeSafeMatcher("isFailure",
                 t -> t.isFailure() && clazz.equals(t.getCause().getClass()),
                 description -> description.appendText("Expected a <Failure(").appendText(clazz.getName()).appendText(")>"),
                 (t, mismatch) -> t.onFailure(cause -> mismatch
@@ -87,20 +108,20 @@ public class VavrMatchers {
                         .appendText("<Failure(" + clazz.getName() + ")>")
                         .appendText(" but found ")
                         .appendText("<Failure(" + cause.getClass().getName() + ")>"))
-                        .onSuccess(val -> mismatch.appendText("Expected <Failure()> but found ").appendValue(success(val))));
+                        .onSuccess(val -> mismatch.appendText("Expected <Failure()> but found ").appendDescriptionOf(value(success(val)))));
     }
     //endregion
 
     //region Either
     public static <L, R> Matcher<Either<L, R>> isRight(Matcher<R> matcher) {
-        return typeSafeMatcher(
+        return typeSafeMatcher("isRight",
                 e -> e.map(matcher::matches).getOrElse(false),
                 description -> description.appendText("Expected a <Right> with content matching ").appendDescriptionOf(matcher),
                 (e, mismatch) -> e
                         .peek(r -> matcher.describeMismatch(r,
                                 mismatch.appendText("Expected a <Right> with content matching `")
                                         .appendDescriptionOf(matcher).appendText("` but ")))
-                        .peekLeft(l -> mismatch.appendText("Expected a <Right> but got ").appendValue(left(l))));
+                        .peekLeft(l -> mismatch.appendText("Expected a <Right> but got ").appendDescriptionOf(value(left(l)))));
     }
 
     public static <L, R> Matcher<Either<L, R>> isRight() {
@@ -108,14 +129,14 @@ public class VavrMatchers {
     }
 
     public static <L, R> Matcher<Either<L, R>> isLeft(Matcher<L> matcher) {
-        return typeSafeMatcher(
+        return typeSafeMatcher("isLeft",
                 e -> e.isLeft() && e.mapLeft(matcher::matches).getLeft(),
                 description -> description.appendText("Expected a <Left> with content matching ").appendDescriptionOf(matcher),
                 (e, mismatch) -> e
                         .peekLeft(r -> matcher.describeMismatch(r,
                                 mismatch.appendText("Expected a <Left> with content matching `")
                                         .appendDescriptionOf(matcher).appendText("` but ")))
-                        .peek(l -> mismatch.appendText("Expected a <Left> but got ").appendValue(right(l))));
+                        .peek(l -> mismatch.appendText("Expected a <Left> but got ").appendDescriptionOf(value(right(l)))));
     }
 
     public static <L, R> Matcher<Either<L, R>> isLeft() {
@@ -127,20 +148,85 @@ public class VavrMatchers {
 
     //region Traversable
     public static <T> Matcher<Traversable<T>> hasLength(int length) {
-        return typeSafeMatcher(
-                t -> t.length() == length,
-                description -> description.appendText("Expected Traversable to have length ").appendValue(length),
-                (t, mismatch) -> mismatch.appendText("Expected Traversable to have length ").appendValue(length)
-                        .appendText(" but has length ")
-                        .appendValue(t.length())
+        return lengthMatcher("hasLength", length, l -> l == length,
+                description -> description.appendText("Expected Traversable to have length ").appendValue(length));
+    }
+
+    public static <T> Matcher<Traversable<T>> hasLengthAtLeast(int length) {
+        return lengthMatcher("hasLengthAtLeast", length - 1, l -> l >= length,
+                description -> description.appendText("Expected Traversable to have length at least ").appendValue(length));
+    }
+
+    public static <T> Matcher<Traversable<T>> hasLengthAtMost(int length) {
+        return lengthMatcher("hasLengthAtMost", length, l -> l <= length,
+                description -> description.appendText("Expected Traversable to have length at most ").appendValue(length));
+    }
+
+    public static <T> Matcher<Traversable<T>> hasLengthBetween(int min, int max) {
+        return lengthMatcher("hasLengthBetween", max, l -> l >= min && l <= max,
+                description -> description.appendText("Expected Traversable to have length between ").appendValue(min)
+                        .appendText(" and ").appendValue(max));
+    }
+
+    /**
+     * A matcher on the length of a Traversable which, when it has no definite size, such as a lazy Stream or an
+     * Iterator, looks at no more than {@code limit + 1} elements.
+     */
+    private static <T> Matcher<Traversable<T>> lengthMatcher(String name, int limit, Predicate<Integer> matches,
+                                                             Consumer<Description> describes) {
+        return typeSafeMatcher(name,
+                t -> boundedLength(t, limit),
+                length -> matches.test(length._1),
+                describes,
+                (length, mismatch) -> {
+                    describes.accept(mismatch);
+                    if (length._2)
+                        mismatch.appendText(" but has length ").appendValue(length._1);
+                    else
+                        mismatch.appendText(" but has more than ").appendValue(limit).appendText(" elements");
+                }
         );
     }
 
+    /**
+     * @return the length of a Traversable, or {@code limit + 1} when it has no definite size and more than
+     * {@code limit} elements, along with whether that length is exact
+     */
+    private static Tuple2<Integer, Boolean> boundedLength(Traversable<?> t, int limit) {
+        if (t.hasDefiniteSize())
+            return Tuple.of(t.length(), true);
+        int length = 0;
+        if (t instanceof Stream) {
+            // walks the cells rather than iterating, as an iterator computes the head following the one returned
+            Stream<?> rest = (Stream<?>) t;
+            while (!rest.isEmpty() && ++length <= limit)
+                rest = rest.tail();
+        } else {
+            Iterator<?> elements = t.iterator();
+            while (length <= limit && elements.hasNext()) {
+                elements.next();
+                length++;
+            }
+        }
+        return Tuple.of(length, length <= limit);
+    }
+
     public static <T> Matcher<Traversable<T>> hasLength(Matcher<Integer> length) {
-        return typeSafeMatcher(
-                t -> length.matches(t.length()),
+        return typeSafeMatcher("hasLength",
+                Traversable::length,
+                length::matches,
                 description -> description.appendText("Expected Traversable to match length ").appendDescriptionOf(length),
-                (t, mismatch) -> mismatch.appendText("Expected Traversable to match length ").appendDescriptionOf(length)
+                (actual, mismatch) -> mismatch.appendText("Expected Traversable to match length ").appendDescriptionOf(length)
+                        .appendText(" but has length ")
+                        .appendValue(actual)
+        );
+    }
+
+    public static <T> Matcher<Traversable<T>> hasLength(IntPredicate length) {
+        return typeSafeMatcher("hasLength",
+                t -> length.test(t.length()),
+                description -> description.appendText("Expected Traversable to have a length matching the predicate"),
+                (t, mismatch) -> mismatch.appendText("Expected Traversable to have a length matching the predicate")
                         .appendText(" but has length ")
                         .appendValue(t.length())
         );
@@ -151,12 +237,36 @@ public class VavrMatchers {
     }
 
     public static <T> Matcher<Traversable<T>> contains(Matcher<T> matcher) {
-        return typeSafeMatcher(
+        return typeSafeMatcher("contains",
                 t -> t.find(matcher::matches).isDefined(),
                 description -> description.appendText("Expected at least one element matching ").appendDescriptionOf(matcher),
                 (t, mismatch) -> mismatch.appendText("Expected at least one element matching `").appendDescriptionOf(matcher)
                         .appendText("' but found ")
-                        .appendValue(t)
+                        .appendDescriptionOf(stringList("<" + t.stringPrefix() + "(", t, ")>"))
+        );
+    }
+
+    /**
+     * Like {@link #contains(Matcher)}, evaluating the elements in parallel on the common {@link ForkJoinPool}.
+     */
+    public static <T> Matcher<Traversable<T>> containsParallel(Matcher<T> matcher) {
+        return containsParallel(matcher, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Like {@link #contains(Matcher)}, evaluating the elements in parallel on {@code executor}.
+     */
+    public static <T> Matcher<Traversable<T>> containsParallel(Matcher<T> matcher, Executor executor) {
+        return typeSafeMatcher("containsParallel",
+                t -> {
+                    ParallelScan<T> scan = new ParallelScan<>(t, executor);
+                    return Tuple.of(t.stringPrefix(), scan.elements(), scan.anyMatch(matcher::matches));
+                },
+                scanned -> scanned._3,
+                description -> description.appendText("Expected at least one element matching ").appendDescriptionOf(matcher),
+                (scanned, mismatch) -> mismatch.appendText("Expected at least one element matching `").appendDescriptionOf(matcher)
+                        .appendText("' but found ")
+                        .appendDescriptionOf(stringList("<" + scanned._1 + "(", scanned._2, ")>"))
         );
     }
 
@@ -166,37 +276,184 @@ public class VavrMatchers {
     }
 
     public static <T> Matcher<Traversable<T>> containsSubList(Traversable<T> items) {
-        return typeSafeMatcher(
-                t -> indexOfSubList(t.toJavaList(), items.toJavaList()) != -1,
+        SubListSearch<T> search = SubListSearch.ofElements(items);
+        return typeSafeMatcher("containsSubList",
+                search::scan,
+                result -> result.found,
                 description -> description.appendText("Expected a Traversable containing in same order all of ")
-                        .appendValueList("[", ",", "]", items),
-                (t, mismatch) -> mismatch.appendText("Expected a Traversable containing in same order all of ")
-                        .appendValueList("[", ",", "]", items)
-                        .appendText(" but is missing ")
-                        .appendValueList("[", ",", "]", items.partition(t::contains)._2)
+                        .appendDescriptionOf(valueList(items)),
+                (result, mismatch) -> {
+                    mismatch.appendText("Expected a Traversable containing in same order all of ")
+                            .appendDescriptionOf(valueList(items));
+                    if (result.length == 0)
+                        mismatch.appendText(" but found no partial match");
+                    else
+                        mismatch.appendText(" but the longest partial match was ")
+                                .appendDescriptionOf(valueList(items.take(result.length)))
+                                .appendText(" at index " + result.start);
+                }
         );
     }
 
+    @SafeVarargs
+    public static <T> Matcher<Traversable<T>> containsSubList(Matcher<T>... matchers) {
+        SubListSearch<T> search = SubListSearch.ofMatchers(matchers);
+        java.util.List<Matcher<T>> expected = Arrays.asList(matchers);
+        return typeSafeMatcher("containsSubList",
+                search::scan,
+                result -> result.found,
+                description -> description.appendText("Expected a Traversable containing in same order elements matching ")
+                        .appendDescriptionOf(descriptionList(expected)),
+                (result, mismatch) -> {
+                    mismatch.appendText("Expected a Traversable containing in same order elements matching ")
+                            .appendDescriptionOf(descriptionList(expected));
+                    if (result.length == 0)
+                        mismatch.appendText(" but found no partial match");
+                    else
+                        mismatch.appendText(" but the longest partial match was ")
+                                .appendDescriptionOf(descriptionList(expected.subList(0, result.length)))
+                                .appendText(" at index " + result.start);
+                }
+        );
+    }
+
+    /**
+     * Searches a sub list through the iterator of a Traversable, in a single pass and without materializing it, so
+     * that lazy inputs are only consumed up to the first occurrence.
+     * <p>
+     * Plain elements are searched with Knuth-Morris-Pratt, using a failure table computed once when the matcher is
+     * built. Matchers cannot be compared with each other to build such a table, so every partial match still alive
+     * is tracked instead.
+     */
+    private static final class SubListSearch<T> {
+        private final int size;
+        private final Object[] elements;
+        private final int[] failure;
+        private final Matcher<T>[] matchers;
+
+        private SubListSearch(Object[] elements, int[] failure, Matcher<T>[] matchers) {
+            this.size = elements != null ? elements.length : matchers.length;
+            this.elements = elements;
+            this.failure = failure;
+            this.matchers = matchers;
+        }
+
+        static <T> SubListSearch<T> ofElements(Traversable<T> items) {
+            Object[] elements = items.toJavaArray();
+            int[] failure = new int[elements.length];
+            for (int i = 1, k = 0; i < elements.length; i++) {
+                while (k > 0 && !Objects.equals(elements[k], elements[i]))
+                    k = failure[k - 1];
+                if (Objects.equals(elements[k], elements[i]))
+                    k++;
+                failure[i] = k;
+            }
+            return new SubListSearch<>(elements, failure, null);
+        }
+
+        static <T> SubListSearch<T> ofMatchers(Matcher<T>[] matchers) {
+            return new SubListSearch<>(null, null, matchers.clone());
+        }
+
+        Result scan(Traversable<T> t) {
+            if (size == 0)
+                return new Result(0, 0, true);
+            return elements != null ? scanElements(t) : scanMatchers(t);
+        }
+
+        private Result scanElements(Traversable<T> t) {
+            int matched = 0, longest = 0, start = -1, index = 0;
+            for (T element : t) {
+                while (matched > 0 && !Objects.equals(elements[matched], element))
+                    matched = failure[matched - 1];
+                if (Objects.equals(elements[matched], element))
+                    matched++;
+                if (matched > longest) {
+                    longest = matched;
+                    start = index - matched + 1;
+                }
+                if (matched == size)
+                    return new Result(size, start, true);
+                index++;
+            }
+            return new Result(longest, start, false);
+        }
+
+        private Result scanMatchers(Traversable<T> t) {
+            int[] alive = new int[size], next = new int[size];
+            int count = 0, longest = 0, start = -1, index = 0;
+            for (T element : t) {
+                int nextCount = 0;
+                for (int i = 0; i < count; i++) {
+                    if (matchers[alive[i]].matches(element))
+                        next[nextCount++] = alive[i] + 1;
+                }
+                if (matchers[0].matches(element))
+                    next[nextCount++] = 1;
+                for (int i = 0; i < nextCount; i++) {
+                    if (next[i] > longest) {
+                        longest = next[i];
+                        start = index - longest + 1;
+                    }
+                }
+                if (longest == size)
+                    return new Result(size, start, true);
+                int[] swap = alive;
+                alive = next;
+                next = swap;
+                count = nextCount;
+                index++;
+            }
+            return new Result(longest, start, false);
+        }
+
+        /**
+         * The longest partial match found, which is the whole sub list when found.
+         */
+        private static final class Result {
+            private final int length;
+            private final int start;
+            private final boolean found;
+
+            private Result(int length, int start, boolean found) {
+                this.length = length;
+                this.start = start;
+                this.found = found;
+            }
+        }
+    }
+
     @SafeVarargs
     public static <T> Matcher<Traversable<T>> containsInOrder(T... items) {
         return containsInOrder(Vector.of(items));
     }
 
     public static <T> Matcher<Traversable<T>> containsInOrder(Traversable<T> items) {
-        return typeSafeMatcher(
+        Object[] expected = items.toJavaArray();
+        return typeSafeMatcher("containsInOrder",
                 t -> {
-                    Queue<T> scan = items.toQueue();
+                    int matched = 0, lastMatch = -1, scanned = 0;
+                    if (expected.length == 0)
+                        return Tuple.of(matched, lastMatch, scanned);
                     for (T item : t) {
-                        if (!scan.isEmpty() && item.equals(scan.head()))
-                            scan = scan.tail();
+                        if (Objects.equals(item, expected[matched])) {
+                            lastMatch = scanned;
+                            if (++matched == expected.length)
+                                break;
+                        }
+                        scanned++;
                     }
-                    return scan.isEmpty();
+                    return Tuple.of(matched, lastMatch, scanned);
                 },
+                scan -> scan._1 == expected.length,
                 description -> description.appendText("Expected a Traversable containing in same order all of ")
-                        .appendValueList("[", ",", "]", items),
-                (t, mismatch) -> mismatch.appendText("Expected a Traversable containing in same order all of ")
-                        .appendValueList("[", ",", "]", items)
-                        .appendText(" but was not")
+                        .appendDescriptionOf(valueList(items)),
+                (scan, mismatch) -> mismatch.appendText("Expected a Traversable containing in same order all of ")
+                        .appendDescriptionOf(valueList(items))
+                        .appendText(" but only found " + scan._1 + " of " + expected.length + " elements in order: ")
+                        .appendDescriptionOf(value(expected[scan._1]))
+                        .appendText(" is missing" + (scan._2 >= 0 ? " after index " + scan._2 : ""))
+                        .appendText(" (" + scan._3 + " elements scanned)")
         );
     }
 
@@ -206,59 +463,263 @@ public class VavrMatchers {
     }
 
     public static <T> Matcher<Traversable<T>> containsInAnyOrder(Traversable<T> items) {
-        return typeSafeMatcher(
-                t -> t.containsAll(items),
+        ExpectedCounts expected = new ExpectedCounts(items);
+        return typeSafeMatcher("containsInAnyOrder",
+                t -> expected.tally(t, false),
+                ExpectedCounts.Tally::isEmpty,
                 description -> description.appendText("Expected a Traversable containing all of ")
-                        .appendValueList("[", ",", "]", items),
-                (t, mismatch) -> mismatch.appendText("Expected a Traversable containing all of ")
-                        .appendValueList("[", ",", "]", items)
+                        .appendDescriptionOf(valueList(items)),
+                (tally, mismatch) -> mismatch.appendText("Expected a Traversable containing all of ")
+                        .appendDescriptionOf(valueList(items))
                         .appendText(" but is missing ")
-                        .appendValueList("[", ",", "]", items.partition(t::contains)._2)
+                        .appendDescriptionOf(counts(tally.missing()))
         );
     }
 
+    @SafeVarargs
+    public static <T> Matcher<Traversable<T>> exactlyInAnyOrder(T... items) {
+        return exactlyInAnyOrder(Vector.of(items));
+    }
+
+    public static <T> Matcher<Traversable<T>> exactlyInAnyOrder(Traversable<T> items) {
+        ExpectedCounts expected = new ExpectedCounts(items);
+        return typeSafeMatcher("exactlyInAnyOrder",
+                t -> expected.tally(t, true),
+                ExpectedCounts.Tally::isEmpty,
+                description -> description.appendText("Expected a Traversable containing exactly all of ")
+                        .appendDescriptionOf(valueList(items)).appendText(" in any order"),
+                (tally, mismatch) -> {
+                    mismatch.appendText("Expected a Traversable containing exactly all of ")
+                            .appendDescriptionOf(valueList(items)).appendText(" in any order but");
+                    if (tally.missingCount > 0)
+                        mismatch.appendText(" is missing ").appendDescriptionOf(counts(tally.missing()));
+                    if (tally.missingCount > 0 && !tally.surplus.isEmpty())
+                        mismatch.appendText(" and");
+                    if (!tally.surplus.isEmpty())
+                        mismatch.appendText(" also contains ").appendDescriptionOf(counts(tally.surplus.entrySet()));
+                }
+        );
+    }
+
+    /**
+     * The expected multiset of a matcher, indexed once when it is built, so that it is checked against an input in
+     * a single pass over it.
+     */
+    private static final class ExpectedCounts {
+        private final java.util.Map<Object, Integer> slots = new java.util.HashMap<>();
+        private final Object[] distinct;
+        private final int[] required;
+        private final int size;
+
+        private ExpectedCounts(Traversable<?> items) {
+            java.util.List<Object> elements = new java.util.ArrayList<>();
+            java.util.List<Integer> counts = new java.util.ArrayList<>();
+            for (Object item : items) {
+                Integer slot = slots.get(item);
+                if (slot == null) {
+                    slots.put(item, elements.size());
+                    elements.add(item);
+                    counts.add(1);
+                } else {
+                    counts.set(slot, counts.get(slot) + 1);
+                }
+            }
+            distinct = elements.toArray();
+            required = counts.stream().mapToInt(Integer::intValue).toArray();
+            size = items.size();
+        }
+
+        /**
+         * Counts the expected elements not found in {@code t} and, when {@code exactly} is set, the elements of
+         * {@code t} in excess. Stops as soon as all expected elements are found when not {@code exactly}.
+         */
+        private Tally tally(Traversable<?> t, boolean exactly) {
+            int[] remaining = required.clone();
+            int missingCount = size;
+            java.util.Map<Object, Integer> surplus = exactly ? new java.util.LinkedHashMap<>() : java.util.Collections.emptyMap();
+            for (Object element : t) {
+                Integer slot = slots.get(element);
+                if (slot != null && remaining[slot] > 0) {
+                    remaining[slot]--;
+                    if (--missingCount == 0 && !exactly)
+                        break;
+                } else if (exactly) {
+                    surplus.merge(element, 1, Integer::sum);
+                }
+            }
+            return new Tally(remaining, missingCount, surplus);
+        }
+
+        private final class Tally {
+            private final int[] remaining;
+            private final int missingCount;
+            private final java.util.Map<Object, Integer> surplus;
+
+            private Tally(int[] remaining, int missingCount, java.util.Map<Object, Integer> surplus) {
+                this.remaining = remaining;
+                this.missingCount = missingCount;
+                this.surplus = surplus;
+            }
+
+            private boolean isEmpty() {
+                return missingCount == 0 && surplus.isEmpty();
+            }
+
+            private Iterable<java.util.Map.Entry<Object, Integer>> missing() {
+                java.util.Map<Object, Integer> missing = new java.util.LinkedHashMap<>();
+                for (int slot = 0; slot < distinct.length; slot++) {
+                    if (remaining[slot] > 0)
+                        missing.put(distinct[slot], remaining[slot]);
+                }
+                return missing.entrySet();
+            }
+        }
+    }
+
+    /**
+     * A matcher checking that all elements match {@code matcher}. The mismatch reports the first
+     * {@value #REPORTED_FAILURES} non-matching elements, the scan stopping after them.
+     */
     public static <T> Matcher<Traversable<T>> allMatch(Matcher<T> matcher) {
-        return typeSafeMatcher(
-                t -> t.forAll(matcher::matches),
+        return typeSafeMatcher("allMatch",
+                t -> {
+                    java.util.List<T> failures = new java.util.ArrayList<>();
+                    for (T element : t) {
+                        if (matcher.matches(element))
+                            continue;
+                        if (failures.size() == REPORTED_FAILURES)
+                            return Tuple.of(Vector.ofAll(failures), true);
+                        failures.add(element);
+                    }
+                    return Tuple.of(Vector.ofAll(failures), false);
+                },
+                failures -> failures._1.isEmpty(),
                 description -> description.appendText("Expected a Traversable where all elements should match ")
                         .appendDescriptionOf(matcher),
-                (t, mismatch) -> mismatch.appendText("Expected a Traversable where all elements should match ")
+                (failures, mismatch) -> mismatch.appendText("Expected a Traversable where all elements should match ")
                         .appendDescriptionOf(matcher)
                         .appendText(" but found non-matching elements ")
-                        .appendValueList("[", ",", "]", t.filter(e -> !matcher.matches(e)).toJavaList())
+                        .appendDescriptionOf(valueList(failures._1))
+                        .appendText(failures._2 ? " and more" : "")
         );
     }
 
-    public static <T> Matcher<Seq<T>> isSorted() {
-        return typeSafeMatcher(
-                t -> t.sorted().equals(t),
-                description -> description.appendText("Expected a Seq to be sorted but it was not"),
-                (t, mismatch) -> mismatch.appendText("Expected a Seq to be sorted but it was not")
+    /**
+     * Like {@link #allMatch(Matcher)}, evaluating the elements in parallel on the common {@link ForkJoinPool}.
+     */
+    public static <T> Matcher<Traversable<T>> allMatchParallel(Matcher<T> matcher) {
+        return allMatchParallel(matcher, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Like {@link #allMatch(Matcher)}, evaluating the elements in parallel on {@code executor}. The scan stops once a
+     * non-matching element is found, so the mismatch reports the first one followed by at most
+     * {@value #REPORTED_FAILURES} - 1 others found by then.
+     */
+    public static <T> Matcher<Traversable<T>> allMatchParallel(Matcher<T> matcher, Executor executor) {
+        return typeSafeMatcher("allMatchParallel",
+                t -> new ParallelScan<>(t, executor).first(e -> !matcher.matches(e), REPORTED_FAILURES),
+                failures -> failures._1.isEmpty(),
+                description -> description.appendText("Expected a Traversable where all elements should match ")
+                        .appendDescriptionOf(matcher),
+                (failures, mismatch) -> {
+                    mismatch.appendText("Expected a Traversable where all elements should match ")
+                            .appendDescriptionOf(matcher)
+                            .appendText(" but found non-matching elements ")
+                            .appendDescriptionOf(valueList(failures._1))
+                            .appendText(failures._2 ? " and possibly more" : "");
+                }
         );
     }
 
+    public static <T> Matcher<Seq<T>> isSorted() {
+        return isSorted(naturalOrder());
+    }
+
+    public static <T> Matcher<Seq<T>> isSorted(Comparator<? super T> comparator) {
+        return sortedMatcher("isSorted", comparator, false, "sorted");
+    }
+
+    public static <T, U extends Comparable<? super U>> Matcher<Seq<T>> isSortedBy(Function<? super T, ? extends U> keyExtractor) {
+        return isSorted(Comparator.comparing(keyExtractor));
+    }
+
+    public static <T> Matcher<Seq<T>> isStrictlySorted() {
+        return isStrictlySorted(naturalOrder());
+    }
+
+    public static <T> Matcher<Seq<T>> isStrictlySorted(Comparator<? super T> comparator) {
+        return sortedMatcher("isStrictlySorted", comparator, true, "strictly sorted");
+    }
+
     public static <T> Matcher<Seq<T>> isReverseSorted() {
-        return typeSafeMatcher(
-                t -> t.sorted().reverse().equals(t),
-                description -> description.appendText("Expected a Seq to be reverse sorted but it was not"),
-                (t, mismatch) -> mismatch.appendText("Expected a Seq to be reverse sorted but it was not")
+        return isReverseSorted(naturalOrder());
+    }
+
+    public static <T> Matcher<Seq<T>> isReverseSorted(Comparator<? super T> comparator) {
+        return sortedMatcher("isReverseSorted", comparator.reversed(), false, "reverse sorted");
+    }
+
+    public static <T> Matcher<Seq<T>> isStrictlyReverseSorted() {
+        return isStrictlyReverseSorted(naturalOrder());
+    }
+
+    public static <T> Matcher<Seq<T>> isStrictlyReverseSorted(Comparator<? super T> comparator) {
+        return sortedMatcher("isStrictlyReverseSorted", comparator.reversed(), true, "strictly reverse sorted");
+    }
+
+    private static <T> Matcher<Seq<T>> sortedMatcher(String name, Comparator<? super T> comparator, boolean strict, String order) {
+        return typeSafeMatcher(name,
+                t -> firstUnordered(t, comparator, strict),
+                Option::isEmpty,
+                description -> description.appendText("Expected a Seq to be " + order + " but it was not"),
+                (violation, mismatch) -> violation.peek(first -> mismatch
+                        .appendText("Expected a Seq to be " + order + " but found ")
+                        .appendDescriptionOf(value(first._2)).appendText(" at index " + (first._1 - 1))
+                        .appendText(" followed by ")
+                        .appendDescriptionOf(value(first._3)).appendText(" at index " + first._1))
         );
     }
 
+    /**
+     * Scans adjacent pairs and stops at the first one out of order.
+     *
+     * @return the index of the second element of that pair, along with both elements
+     */
+    private static <T> Option<Tuple3<Integer, T, T>> firstUnordered(Seq<T> seq, Comparator<? super T> comparator, boolean strict) {
+        Iterator<T> iterator = seq.iterator();
+        if (!iterator.hasNext())
+            return Option.none();
+        T previous = iterator.next();
+        for (int index = 1; iterator.hasNext(); index++) {
+            T current = iterator.next();
+            int comparison = comparator.compare(previous, current);
+            if (comparison > 0 || strict && comparison == 0)
+                return Option.some(Tuple.of(index, previous, current));
+            previous = current;
+        }
+        return Option.none();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Comparator<T> naturalOrder() {
+        return (Comparator) Comparator.naturalOrder();
+    }
+
     @SafeVarargs
     public static <T> Matcher<Seq<T>> startsWith(T... items) {
         return startsWith(Vector.of(items));
     }
 
     public static <T> Matcher<Seq<T>> startsWith(Traversable<T> items) {
-        return typeSafeMatcher(
+        return typeSafeMatcher("startsWith",
                 t -> t.startsWith(items),
                 description -> description.appendText("Expected a Seq to start with ")
-                        .appendValueList("[", ",", "]", items),
+                        .appendDescriptionOf(valueList(items)),
                 (t, mismatch) -> mismatch.appendText("Expected a Seq to start with ")
-                        .appendValueList("[", ",", "]", items)
+                        .appendDescriptionOf(valueList(items))
                         .appendText(" but found a Seq starting with ")
-                        .appendValueList("[", ",", "]", t.subSequence(0, items.size()))
+                        .appendDescriptionOf(valueList(t.subSequence(0, items.size())))
         );
     }
 
@@ -268,27 +729,441 @@ public class VavrMatchers {
     }
 
     public static <T> Matcher<Seq<T>> endsWith(Seq<T> items) {
-        return typeSafeMatcher(
+        return typeSafeMatcher("endsWith",
                 t -> t.endsWith(items),
                 description -> description.appendText("Expected a Seq to end with ")
-                        .appendValueList("[", ",", "]", items),
+                        .appendDescriptionOf(valueList(items)),
                 (t, mismatch) -> mismatch.appendText("Expected a Seq to end with ")
-                        .appendValueList("[", ",", "]", items)
+                        .appendDescriptionOf(valueList(items))
                         .appendText(" but found a Seq ending with ")
-                        .appendValueList("[", ",", "]", items.size() > t.size() ? t : t.subSequence(t.size() - items.size()))
+                        .appendDescriptionOf(valueList(items.size() > t.size() ? t : t.subSequence(t.size() - items.size())))
         );
     }
 
+    /**
+     * Whether a Seq has the same elements as {@code expected}, in the same order, whatever their implementations.
+     * <p>
+     * A match first compares the lengths, when both are known without being computed, then the hash codes of
+     * {@link CharSeq}s, which are cached, then the elements one by one. A mismatch only renders the differences, as the
+     * runs of the shortest edit script turning {@code expected} into the actual Seq, at the indices of the actual Seq.
+     * Beyond {@value SeqDiff#MAX_EDITS} edits, only the first difference is reported.
+     */
+    public static <T> Matcher<Seq<T>> isSeqEqualTo(Seq<T> expected) {
+        return typeSafeMatcher("isSeqEqualTo",
+                t -> sameElements(t, expected),
+                description -> description.appendText("Expected a Seq equal to ").appendDescriptionOf(valueList(expected)),
+                (t, mismatch) -> {
+                    Object[] expectedElements = expected.toJavaArray(), actualElements = t.toJavaArray();
+                    Option<Vector<SeqDiff.Run>> runs = SeqDiff.diff(expectedElements, actualElements);
+                    mismatch.appendText("Expected a Seq equal to ").appendDescriptionOf(valueList(expected));
+                    if (runs.isEmpty()) {
+                        int first = 0;
+                        while (first < expectedElements.length && first < actualElements.length
+                                && Objects.equals(expectedElements[first], actualElements[first]))
+                            first++;
+                        mismatch.appendText(" but found more than " + SeqDiff.MAX_EDITS
+                                + " differences, the first one at index " + first);
+                        return;
+                    }
+                    mismatch.appendText(" but found " + runs.get().size()
+                            + (runs.get().size() == 1 ? " difference " : " differences "))
+                            .appendDescriptionOf(descriptionList(runs.get().map(run -> editRun(run, expectedElements,
+                                    actualElements))));
+                }
+        );
+    }
+
+    private static boolean sameElements(Seq<?> actual, Seq<?> expected) {
+        if (actual == expected)
+            return true;
+        if (actual.hasDefiniteSize() && expected.hasDefiniteSize() && actual.size() != expected.size())
+            return false;
+        if (actual instanceof CharSeq && expected instanceof CharSeq && actual.hashCode() != expected.hashCode())
+            return false;
+        Iterator<?> actualElements = actual.iterator(), expectedElements = expected.iterator();
+        while (actualElements.hasNext() && expectedElements.hasNext()) {
+            if (!Objects.equals(actualElements.next(), expectedElements.next()))
+                return false;
+        }
+        return !actualElements.hasNext() && !expectedElements.hasNext();
+    }
+
+    private static SelfDescribing editRun(SeqDiff.Run run, Object[] expected, Object[] actual) {
+        java.util.List<Object> missing = Arrays.asList(expected).subList(run.expectedFrom, run.expectedTo);
+        java.util.List<Object> unexpected = Arrays.asList(actual).subList(run.actualFrom, run.actualTo);
+        return description -> {
+            description.appendText("at index " + run.actualFrom + ": ");
+            if (unexpected.isEmpty())
+                description.appendText("missing ").appendDescriptionOf(valueList(missing));
+            else if (missing.isEmpty())
+                description.appendText("unexpected ").appendDescriptionOf(valueList(unexpected));
+            else
+                description.appendText("expected ").appendDescriptionOf(valueList(missing))
+                        .appendText(" but found ").appendDescriptionOf(valueList(unexpected));
+        };
+    }
+
     public static <T> Matcher<Seq<T>> isUnique() {
-        return typeSafeMatcher(
-                t -> t.toSet().size() == t.size(),
-                description -> description.appendText("Expected a Seq to have unique elements"),
+        return uniqueMatcher("isUnique", Function.identity(), "elements");
+    }
+
+    public static <T> Matcher<Seq<T>> isUniqueBy(Function<? super T, ?> keyExtractor) {
+        return uniqueMatcher("isUniqueBy", keyExtractor, "keys");
+    }
+
+    private static <T> Matcher<Seq<T>> uniqueMatcher(String name, Function<? super T, ?> keyExtractor, String what) {
+        return typeSafeMatcher(name,
+                t -> {
+                    java.util.Set<Object> seen = new java.util.HashSet<>();
+                    for (T element : t) {
+                        if (!seen.add(keyExtractor.apply(element)))
+                            return false;
+                    }
+                    return true;
+                },
+                description -> description.appendText("Expected a Seq to have unique " + what),
                 (t, mismatch) -> mismatch
-                        .appendText("Expected a Seq to have unique elements but found the following duplicate elements ")
-                        .appendValueList("[", ",", "]",
-                                t.toSet().filter(e -> t.count(x -> x.equals(e)) > 1))
+                        .appendText("Expected a Seq to have unique " + what + " but found the following duplicate " + what + " ")
+                        .appendDescriptionOf(description -> {
+                            RenderingBudget budget = RenderingBudget.current();
+                            budget.appendList(description, "[", ",", "]",
+                                    Iterator.ofAll(duplicates(t, keyExtractor).entrySet()).filter(duplicate -> duplicate.getValue().count > 1),
+                                    (d, duplicate) -> {
+                                        Occurrences occurrences = duplicate.getValue();
+                                        budget.appendValue(d, duplicate.getKey());
+                                        d.appendText(" (" + occurrences.count + " times, at indices "
+                                                + occurrences.first + " and " + occurrences.second + ")");
+                                    });
+                        })
         );
     }
+
+    /**
+     * Builds, in a single pass, the frequency table of the keys of a Seq, in the order they first appear.
+     */
+    private static <T> java.util.Map<Object, Occurrences> duplicates(Seq<T> seq, Function<? super T, ?> keyExtractor) {
+        java.util.Map<Object, Occurrences> frequencies = new java.util.LinkedHashMap<>();
+        int index = 0;
+        for (T element : seq) {
+            int position = index++;
+            frequencies.computeIfAbsent(keyExtractor.apply(element), key -> new Occurrences(position)).add(position);
+        }
+        return frequencies;
+    }
+
+    private static final class Occurrences {
+        private final int first;
+        private int second = -1;
+        private int count;
+
+        private Occurrences(int first) {
+            this.first = first;
+        }
+
+        private void add(int position) {
+            if (count++ == 1)
+                second = position;
+        }
+    }
+    //endregion
+
+    //region Numeric
+    /*
+     * The matchers below unbox each element once into a primitive and never allocate while the input matches: what
+     * violates the expectation, such as the first element out of bounds or the sum, is only captured when found, and
+     * kept to describe the mismatch, as the input may be an Iterator which cannot be scanned again.
+     */
+    public static Matcher<Traversable<Integer>> allIntsMatch(IntPredicate predicate) {
+        return elementsMatcher("allIntsMatch", t -> firstInt(t, predicate), "match the predicate");
+    }
+
+    public static Matcher<Traversable<Long>> allLongsMatch(LongPredicate predicate) {
+        return elementsMatcher("allLongsMatch", t -> firstLong(t, predicate), "match the predicate");
+    }
+
+    public static Matcher<Traversable<Double>> allDoublesMatch(DoublePredicate predicate) {
+        return elementsMatcher("allDoublesMatch", t -> firstDouble(t, predicate), "match the predicate");
+    }
+
+    public static Matcher<Traversable<Integer>> allIntsBetween(int min, int max) {
+        return elementsMatcher("allIntsBetween", t -> firstInt(t, i -> i >= min && i <= max),
+                "be between " + min + " and " + max);
+    }
+
+    public static Matcher<Traversable<Long>> allLongsBetween(long min, long max) {
+        return elementsMatcher("allLongsBetween", t -> firstLong(t, l -> l >= min && l <= max),
+                "be between " + min + " and " + max);
+    }
+
+    public static Matcher<Traversable<Double>> allDoublesBetween(double min, double max) {
+        return elementsMatcher("allDoublesBetween", t -> firstDouble(t, d -> d >= min && d <= max),
+                "be between " + min + " and " + max);
+    }
+
+    private static <N extends Number> Matcher<Traversable<N>> elementsMatcher(String name,
+                                                                              Function1<Traversable<N>, Option<SelfDescribing>> firstViolation,
+                                                                              String expectation) {
+        String expected = "Expected a Traversable where all elements should " + expectation;
+        return numericMatcher(name, firstViolation, expected, expected);
+    }
+
+    /**
+     * A matcher of the violation found in its input, if any, describing the mismatch as {@code expected} followed by
+     * the violation.
+     */
+    private static <T> Matcher<T> numericMatcher(String name, Function1<T, Option<SelfDescribing>> violation,
+                                                 String describes, String expected) {
+        return typeSafeMatcher(name,
+                violation,
+                Option::isEmpty,
+                description -> description.appendText(describes),
+                (found, mismatch) -> mismatch.appendText(expected + " but ").appendDescriptionOf(found.get())
+        );
+    }
+
+    /**
+     * @return the first element not matching {@code predicate}, and its index
+     */
+    private static Option<SelfDescribing> firstInt(Traversable<Integer> t, IntPredicate predicate) {
+        int index = 0;
+        for (Iterator<Integer> elements = t.iterator(); elements.hasNext(); index++) {
+            Integer element = elements.next();
+            if (!predicate.test(element))
+                return Option.some(foundAt(element, index));
+        }
+        return Option.none();
+    }
+
+    private static Option<SelfDescribing> firstLong(Traversable<Long> t, LongPredicate predicate) {
+        int index = 0;
+        for (Iterator<Long> elements = t.iterator(); elements.hasNext(); index++) {
+            Long element = elements.next();
+            if (!predicate.test(element))
+                return Option.some(foundAt(element, index));
+        }
+        return Option.none();
+    }
+
+    private static Option<SelfDescribing> firstDouble(Traversable<Double> t, DoublePredicate predicate) {
+        int index = 0;
+        for (Iterator<Double> elements = t.iterator(); elements.hasNext(); index++) {
+            Double element = elements.next();
+            if (!predicate.test(element))
+                return Option.some(foundAt(element, index));
+        }
+        return Option.none();
+    }
+
+    private static SelfDescribing foundAt(Object element, int index) {
+        return description -> description.appendText("found ").appendDescriptionOf(value(element))
+                .appendText(" at index " + index);
+    }
+
+    public static Matcher<Seq<Integer>> isSortedInts() {
+        return primitiveSortedMatcher("isSortedInts", VavrMatchers::firstUnsortedInt);
+    }
+
+    public static Matcher<Seq<Long>> isSortedLongs() {
+        return primitiveSortedMatcher("isSortedLongs", VavrMatchers::firstUnsortedLong);
+    }
+
+    /**
+     * Like {@link #isSorted()} on Doubles, ordering them as {@link Double#compare(double, double)} does.
+     */
+    public static Matcher<Seq<Double>> isSortedDoubles() {
+        return primitiveSortedMatcher("isSortedDoubles", VavrMatchers::firstUnsortedDouble);
+    }
+
+    private static <N extends Number> Matcher<Seq<N>> primitiveSortedMatcher(String name,
+                                                                             Function1<Seq<N>, Option<SelfDescribing>> firstUnsorted) {
+        return numericMatcher(name, firstUnsorted, "Expected a Seq to be sorted but it was not",
+                "Expected a Seq to be sorted");
+    }
+
+    /**
+     * @return the first pair out of order, and its indices
+     */
+    private static Option<SelfDescribing> firstUnsortedInt(Seq<Integer> seq) {
+        Iterator<Integer> elements = seq.iterator();
+        if (!elements.hasNext())
+            return Option.none();
+        int previous = elements.next();
+        for (int index = 1; elements.hasNext(); index++) {
+            int current = elements.next();
+            if (previous > current)
+                return Option.some(outOfOrder(previous, current, index));
+            previous = current;
+        }
+        return Option.none();
+    }
+
+    private static Option<SelfDescribing> firstUnsortedLong(Seq<Long> seq) {
+        Iterator<Long> elements = seq.iterator();
+        if (!elements.hasNext())
+            return Option.none();
+        long previous = elements.next();
+        for (int index = 1; elements.hasNext(); index++) {
+            long current = elements.next();
+            if (previous > current)
+                return Option.some(outOfOrder(previous, current, index));
+            previous = current;
+        }
+        return Option.none();
+    }
+
+    private static Option<SelfDescribing> firstUnsortedDouble(Seq<Double> seq) {
+        Iterator<Double> elements = seq.iterator();
+        if (!elements.hasNext())
+            return Option.none();
+        double previous = elements.next();
+        for (int index = 1; elements.hasNext(); index++) {
+            double current = elements.next();
+            if (Double.compare(previous, current) > 0)
+                return Option.some(outOfOrder(previous, current, index));
+            previous = current;
+        }
+        return Option.none();
+    }
+
+    private static SelfDescribing outOfOrder(Object previous, Object current, int index) {
+        return description -> description.appendText("found ").appendDescriptionOf(value(previous))
+                .appendText(" at index " + (index - 1)).appendText(" followed by ")
+                .appendDescriptionOf(value(current)).appendText(" at index " + index);
+    }
+
+    /**
+     * Sums the ints as longs, so that the sum does not overflow.
+     */
+    public static Matcher<Traversable<Integer>> hasIntSum(LongPredicate sum) {
+        return numericMatcher("hasIntSum", t -> {
+                    long actual = sumOfInts(t);
+                    return sum.test(actual) ? Option.none() : Option.some(itWas(actual));
+                },
+                "Expected a Traversable whose sum matches the predicate",
+                "Expected a Traversable whose sum matches the predicate");
+    }
+
+    public static Matcher<Traversable<Long>> hasLongSum(LongPredicate sum) {
+        return numericMatcher("hasLongSum", t -> {
+                    long actual = sumOfLongs(t);
+                    return sum.test(actual) ? Option.none() : Option.some(itWas(actual));
+                },
+                "Expected a Traversable whose sum matches the predicate",
+                "Expected a Traversable whose sum matches the predicate");
+    }
+
+    public static Matcher<Traversable<Double>> hasDoubleSum(DoublePredicate sum) {
+        return numericMatcher("hasDoubleSum", t -> {
+                    double actual = sumOfDoubles(t);
+                    return sum.test(actual) ? Option.none() : Option.some(itWas(actual));
+                },
+                "Expected a Traversable whose sum matches the predicate",
+                "Expected a Traversable whose sum matches the predicate");
+    }
+
+    private static SelfDescribing itWas(Object value) {
+        return description -> description.appendText("it was ").appendValue(value);
+    }
+
+    private static long sumOfInts(Traversable<Integer> t) {
+        long sum = 0;
+        for (Iterator<Integer> elements = t.iterator(); elements.hasNext(); )
+            sum += elements.next();
+        return sum;
+    }
+
+    private static long sumOfLongs(Traversable<Long> t) {
+        long sum = 0;
+        for (Iterator<Long> elements = t.iterator(); elements.hasNext(); )
+            sum += elements.next();
+        return sum;
+    }
+
+    private static double sumOfDoubles(Traversable<Double> t) {
+        double sum = 0;
+        for (Iterator<Double> elements = t.iterator(); elements.hasNext(); )
+            sum += elements.next();
+        return sum;
+    }
+
+    /**
+     * An empty Traversable has no minimum, and never matches.
+     */
+    public static Matcher<Traversable<Integer>> hasIntMin(IntPredicate min) {
+        return extremumMatcher("hasIntMin", "minimum", t -> extremumOfInts(t, -1, min));
+    }
+
+    /**
+     * An empty Traversable has no maximum, and never matches.
+     */
+    public static Matcher<Traversable<Integer>> hasIntMax(IntPredicate max) {
+        return extremumMatcher("hasIntMax", "maximum", t -> extremumOfInts(t, 1, max));
+    }
+
+    public static Matcher<Traversable<Long>> hasLongMin(LongPredicate min) {
+        return extremumMatcher("hasLongMin", "minimum", t -> extremumOfLongs(t, -1, min));
+    }
+
+    public static Matcher<Traversable<Long>> hasLongMax(LongPredicate max) {
+        return extremumMatcher("hasLongMax", "maximum", t -> extremumOfLongs(t, 1, max));
+    }
+
+    public static Matcher<Traversable<Double>> hasDoubleMin(DoublePredicate min) {
+        return extremumMatcher("hasDoubleMin", "minimum", t -> extremumOfDoubles(t, -1, min));
+    }
+
+    public static Matcher<Traversable<Double>> hasDoubleMax(DoublePredicate max) {
+        return extremumMatcher("hasDoubleMax", "maximum", t -> extremumOfDoubles(t, 1, max));
+    }
+
+    private static <N extends Number> Matcher<Traversable<N>> extremumMatcher(String name, String extremum,
+                                                                              Function1<Traversable<N>, Option<SelfDescribing>> violation) {
+        String expected = "Expected a Traversable whose " + extremum + " matches the predicate";
+        return numericMatcher(name, violation, expected, expected);
+    }
+
+    /**
+     * @param sign -1 for the minimum, 1 for the maximum
+     * @return the extremum, when it does not match {@code matches}, or that there is none
+     */
+    private static Option<SelfDescribing> extremumOfInts(Traversable<Integer> t, int sign, IntPredicate matches) {
+        Iterator<Integer> elements = t.iterator();
+        if (!elements.hasNext())
+            return Option.some(NO_EXTREMUM);
+        int extremum = elements.next();
+        while (elements.hasNext()) {
+            int current = elements.next();
+            if (Integer.compare(current, extremum) == sign)
+                extremum = current;
+        }
+        return matches.test(extremum) ? Option.none() : Option.some(itWas(extremum));
+    }
+
+    private static Option<SelfDescribing> extremumOfLongs(Traversable<Long> t, int sign, LongPredicate matches) {
+        Iterator<Long> elements = t.iterator();
+        if (!elements.hasNext())
+            return Option.some(NO_EXTREMUM);
+        long extremum = elements.next();
+        while (elements.hasNext()) {
+            long current = elements.next();
+            if (Long.compare(current, extremum) == sign)
+                extremum = current;
+        }
+        return matches.test(extremum) ? Option.none() : Option.some(itWas(extremum));
+    }
+
+    private static Option<SelfDescribing> extremumOfDoubles(Traversable<Double> t, int sign, DoublePredicate matches) {
+        Iterator<Double> elements = t.iterator();
+        if (!elements.hasNext())
+            return Option.some(NO_EXTREMUM);
+        double extremum = elements.next();
+        while (elements.hasNext()) {
+            double current = elements.next();
+            if (Double.compare(current, extremum) == sign)
+                extremum = current;
+        }
+        return matches.test(extremum) ? Option.none() : Option.some(itWas(extremum));
+    }
     //endregion
 
     //region Set
@@ -298,14 +1173,16 @@ public class VavrMatchers {
     }
 
     public static <T> Matcher<Set<T>> containsSubSet(Traversable<T> items) {
-        return typeSafeMatcher(
-                t -> t.containsAll(items),
+        Vector<T> expected = items.toVector().distinct();
+        return typeSafeMatcher("containsSubSet",
+                t -> expected.filter(e -> !t.contains(e)),
+                Vector::isEmpty,
                 description -> description.appendText("Expected a Set containing all of ")
-                        .appendValueList("[", ",", "]", items),
-                (t, mismatch) -> mismatch.appendText("Expected a Set containing all of ")
-                        .appendValueList("[", ",", "]", items)
+                        .appendDescriptionOf(valueList(items)),
+                (missing, mismatch) -> mismatch.appendText("Expected a Set containing all of ")
+                        .appendDescriptionOf(valueList(items))
                         .appendText(" but is missing ")
-                        .appendValueList("[", ",", "]", items.partition(t::contains)._2)
+                        .appendDescriptionOf(valueList(missing))
         );
     }
     @SafeVarargs
@@ -314,14 +1191,16 @@ public class VavrMatchers {
     }
 
     public static <T> Matcher<Set<T>> isSubSetOf(Traversable<T> items) {
-        return typeSafeMatcher(
-                items::containsAll,
+        java.util.Set<T> expected = new java.util.HashSet<>(items.toJavaList());
+        return typeSafeMatcher("isSubSetOf",
+                t -> t.iterator().filter(e -> !expected.contains(e)).toVector(),
+                Vector::isEmpty,
                 description -> description.appendText("Expected a Set being a subset of ")
-                        .appendValueList("[", ",", "]", items),
-                (t, mismatch) -> mismatch.appendText("Expected a Set being a subset of ")
-                        .appendValueList("[", ",", "]", items)
+                        .appendDescriptionOf(valueList(items)),
+                (extra, mismatch) -> mismatch.appendText("Expected a Set being a subset of ")
+                        .appendDescriptionOf(valueList(items))
                         .appendText(" but contained also ")
-                        .appendValueList("[", ",", "]", t.partition(items::contains)._2)
+                        .appendDescriptionOf(valueList(extra))
         );
     }
     //endregion
@@ -333,14 +1212,16 @@ public class VavrMatchers {
     }
 
     public static <T, U> Matcher<Map<T, U>> containsKeys(Traversable<T> items) {
-        return typeSafeMatcher(
-                t -> t.keySet().containsAll(items),
+        Vector<T> keys = items.toVector().distinct();
+        return typeSafeMatcher("containsKeys",
+                t -> keys.filter(key -> !t.containsKey(key)),
+                Vector::isEmpty,
                 description -> description.appendText("Expected a Map containing the following keys ")
-                        .appendValueList("[", ",", "]", items),
-                (t, mismatch) -> mismatch.appendText("Expected a Map containing the following keys ")
-                        .appendValueList("[", ",", "]", items)
+                        .appendDescriptionOf(valueList(items)),
+                (missing, mismatch) -> mismatch.appendText("Expected a Map containing the following keys ")
+                        .appendDescriptionOf(valueList(items))
                         .appendText(" but is missing ")
-                        .appendValueList("[", ",", "]", items.partition(e -> t.keySet().contains(e))._2)
+                        .appendDescriptionOf(valueList(missing))
         );
     }
 
@@ -350,32 +1231,72 @@ public class VavrMatchers {
     }
 
     public static <T, U> Matcher<Map<T, U>> containsValues(Traversable<U> items) {
-        return typeSafeMatcher(
-                t -> t.values().containsAll(items),
+        ExpectedCounts expected = new ExpectedCounts(items);
+        return typeSafeMatcher("containsValues",
+                t -> expected.tally(t.valuesIterator(), false),
+                ExpectedCounts.Tally::isEmpty,
                 description -> description.appendText("Expected a Map containing the following values ")
-                        .appendValueList("[", ",", "]", items),
-                (t, mismatch) -> mismatch.appendText("Expected a Map containing the following values ")
-                        .appendValueList("[", ",", "]", items)
+                        .appendDescriptionOf(valueList(items)),
+                (tally, mismatch) -> mismatch.appendText("Expected a Map containing the following values ")
+                        .appendDescriptionOf(valueList(items))
                         .appendText(" but is missing ")
-                        .appendValueList("[", ",", "]", items.partition(e -> t.values().contains(e))._2)
+                        .appendDescriptionOf(counts(tally.missing()))
         );
     }
 
     public static <T, U> Matcher<Map<T, U>> contains(T key, U value) {
-        return typeSafeMatcher(
-                t -> t.get(key).map(value::equals).getOrElse(false),
+        return typeSafeMatcher("contains",
+                t -> t.get(key),
+                found -> found.map(value::equals).getOrElse(false),
                 description -> description.appendText("Expected a Map containing an entry ")
                         .appendValue(key).appendText("=").appendValue(value),
-                (t, mismatch) -> mismatch.appendText("Expected a Map containing an entry ")
+                (found, mismatch) -> mismatch.appendText("Expected a Map containing an entry ")
                         .appendValue(key).appendText("=").appendValue(value)
-                        .appendText(" but found ").appendText(t.get(key).isDefined() ? "value <" + t.get(key).get() + ">" : "no such key")
+                        .appendText(" but found ")
+                        .appendDescriptionOf(found.fold(
+                                () -> description -> description.appendText("no such key"),
+                                v -> description -> description.appendText("value <").appendDescriptionOf(string(v)).appendText(">")))
         );
     }
+
+    /**
+     * Verifies the value of each of the given keys against its matcher, looking each key up once, and reports every
+     * failing entry.
+     */
+    public static <T, U> Matcher<Map<T, U>> hasEntries(Map<T, Matcher<U>> entries) {
+        SelfDescribing expected = description -> {
+            RenderingBudget budget = RenderingBudget.current();
+            budget.appendList(description, "[", ",", "]", entries, (d, entry) -> {
+                budget.appendValue(d, entry._1);
+                d.appendText("=").appendDescriptionOf(entry._2);
+            });
+        };
+        return typeSafeMatcher("hasEntries",
+                t -> entries.iterator()
+                        .map(entry -> Tuple.of(entry._1, entry._2, t.get(entry._1)))
+                        .filter(entry -> !entry._3.map(entry._2::matches).getOrElse(false))
+                        .toVector(),
+                Vector::isEmpty,
+                description -> description.appendText("Expected a Map containing entries matching ").appendDescriptionOf(expected),
+                (failures, mismatch) -> mismatch.appendText("Expected a Map containing entries matching ")
+                        .appendDescriptionOf(expected)
+                        .appendText(" but ")
+                        .appendDescriptionOf(description -> {
+                            RenderingBudget budget = RenderingBudget.current();
+                            budget.appendList(description, "[", ", ", "]", failures, (d, failure) -> {
+                                budget.appendValue(d, failure._1);
+                                failure._3.onEmpty(() -> d.appendText(" is missing"))
+                                        .peek(value -> failure._2.describeMismatch(value, d.appendText(" ")));
+                            });
+                        })
+        );
+    }
+
     //endregion
 
     //region Future
     public static <T> Matcher<Future<T>> isCancelled() {
-        return typeSafeMatcher(
+        return typeSafeMatcher("isCancelled",
                 Future::isCancelled,
                 description -> description.appendText("Expected a cancelled Future but it was not"),
                 (t, mismatch) -> mismatch.appendText("Expected a cancelled Future but it was not")
@@ -383,7 +1304,7 @@ public class VavrMatchers {
     }
 
     public static <T> Matcher<Future<T>> isCompleted() {
-        return typeSafeMatcher(
+        return typeSafeMatcher("isCompleted",
                 Future::isCompleted,
                 description -> description.appendText("Expected a completed Future but it was not"),
                 (t, mismatch) -> mismatch.appendText("Expected a completed Future but it was not")
@@ -391,17 +1312,176 @@ public class VavrMatchers {
     }
 
     public static <T> Matcher<Future<T>> isCompleted(Matcher<T> matcher) {
-        return typeSafeMatcher(
+        return typeSafeMatcher("isCompleted",
                 t -> t.isCompleted() && t.map(matcher::matches).getOrElse(false),
                 description -> description.appendText("Expected a completed Future but it was not"),
                 (t, mismatch) -> mismatch.appendText("Expected a completed Future but it was not")
         );
     }
+
+    public static <T> Matcher<Future<T>> isCompletedWithin(Duration timeout) {
+        return awaitingMatcher("isCompletedWithin", timeout, result -> true,
+                "complete",
+                (result, mismatch) -> { });
+    }
+
+    public static <T> Matcher<Future<T>> isCompletedWithin(Duration timeout, Matcher<T> matcher) {
+        return awaitingMatcher("isCompletedWithin", timeout, result -> result.map(matcher::matches).getOrElse(false),
+                "complete with a value matching " + StringDescription.toString(matcher),
+                (result, mismatch) -> result
+                        .onFailure(e -> mismatch.appendText(" but it completed with ").appendDescriptionOf(value(failure(e))))
+                        .onSuccess(value -> matcher.describeMismatch(value, mismatch.appendText(" but "))));
+    }
+
+    public static <T> Matcher<Future<T>> succeedsWithin(Duration timeout) {
+        return awaitingMatcher("succeedsWithin", timeout, Try::isSuccess,
+                "succeed",
+                (result, mismatch) -> result.onFailure(e -> mismatch.appendText(" but it completed with ")
+                        .appendDescriptionOf(value(failure(e)))));
+    }
+
+    public static <T> Matcher<Future<T>> failsWithin(Duration timeout, Class<? extends Throwable> clazz) {
+        return awaitingMatcher("failsWithin", timeout, result -> result.isFailure() && clazz.equals(result.getCause().getClass()),
+                "fail with " + clazz.getName(),
+                (result, mismatch) -> result
+                        .onFailure(e -> mismatch.appendText(" but it completed with <Failure(" + e.getClass().getName() + ")>"))
+                        .onSuccess(value -> mismatch.appendText(" but it completed with ").appendDescriptionOf(value(success(value)))));
+    }
+
+    /**
+     * A matcher waiting at most {@code timeout} for a Future to complete, on a latch released by a callback registered
+     * on it rather than by polling it.
+     */
+    private static <T> Matcher<Future<T>> awaitingMatcher(String name, Duration timeout, Predicate<Try<T>> matches,
+                                                          String expectation,
+                                                          BiConsumer<Try<T>, Description> describesResult) {
+        String expected = "Expected a Future to " + expectation + " within " + timeout.toMillis() + " ms";
+        return typeSafeMatcher(name,
+                t -> await(t, timeout),
+                awaited -> awaited._1.map(matches::test).getOrElse(false),
+                description -> description.appendText(expected),
+                (awaited, mismatch) -> {
+                    mismatch.appendText(expected);
+                    awaited._1.onEmpty(() -> mismatch.appendText(" but it was still pending after " + awaited._2.toMillis() + " ms"))
+                            .peek(result -> describesResult.accept(result, mismatch));
+                }
+        );
+    }
+
+    /**
+     * Waits at most {@code timeout} for a Future to complete.
+     *
+     * @return its result, if it completed, along with the time waited
+     */
+    private static <T> Tuple2<Option<Try<T>>, Duration> await(Future<T> future, Duration timeout) {
+        long start = System.nanoTime();
+        CountDownLatch completed = new CountDownLatch(1);
+        future.onComplete(result -> completed.countDown());
+        try {
+            completed.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Tuple.of(future.getValue(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    public static <T> Matcher<Traversable<Future<T>>> allCompletedWithin(Duration timeout, Matcher<T> matcher) {
+        return futuresMatcher("allCompletedWithin", timeout, false, result -> result.map(matcher::matches).getOrElse(false),
+                "all Futures to complete with values matching " + StringDescription.toString(matcher),
+                matcher::describeMismatch);
+    }
+
+    public static <T> Matcher<Traversable<Future<T>>> allSucceedWithin(Duration timeout) {
+        return futuresMatcher("allSucceedWithin", timeout, false, Try::isSuccess,
+                "all Futures to succeed",
+                (value, mismatch) -> { });
+    }
+
+    public static <T> Matcher<Traversable<Future<T>>> anySucceedsWithin(Duration timeout) {
+        return futuresMatcher("anySucceedsWithin", timeout, true, Try::isSuccess,
+                "any Future to succeed",
+                (value, mismatch) -> { });
+    }
+
+    /**
+     * A matcher waiting at most {@code timeout} for all the Futures of a Traversable, or until one of them decides the
+     * result: the first valid one when {@code any} holds, the first invalid one otherwise. The mismatch reports the
+     * indices of the Futures still pending, failed, or completed with invalid values.
+     */
+    private static <T> Matcher<Traversable<Future<T>>> futuresMatcher(String name, Duration timeout, boolean any,
+                                                                      Predicate<Try<T>> valid, String expectation,
+                                                                      BiConsumer<T, Description> describesInvalidValue) {
+        String expected = "Expected " + expectation + " within " + timeout.toMillis() + " ms";
+        return typeSafeMatcher(name,
+                t -> awaitAll(t, timeout, any ? valid : valid.negate()),
+                awaited -> any
+                        ? awaited._1.exists(result -> result.exists(valid))
+                        : awaited._1.forAll(result -> result.exists(valid)),
+                description -> description.appendText(expected),
+                (awaited, mismatch) -> {
+                    Vector<Tuple2<Option<Try<T>>, Integer>> results = awaited._1.zipWithIndex();
+                    Vector<Integer> pending = results.filter(result -> result._1.isEmpty()).map(Tuple2::_2);
+                    Vector<Tuple2<Option<Try<T>>, Integer>> failed = results.filter(result -> result._1.exists(Try::isFailure));
+                    Vector<Tuple2<Option<Try<T>>, Integer>> invalid = results
+                            .filter(result -> result._1.exists(r -> r.isSuccess() && !valid.test(r)));
+                    mismatch.appendText(expected);
+                    if (results.isEmpty()) {
+                        mismatch.appendText(" but there were none");
+                        return;
+                    }
+                    // the time waited is only reported along with the Futures it was waited for
+                    String separator = " but ";
+                    if (!pending.isEmpty()) {
+                        mismatch.appendText(separator + "still pending after " + awaited._2.toMillis() + " ms: ")
+                                .appendDescriptionOf(stringList("[", pending, "]"));
+                        separator = ", ";
+                    }
+                    if (!failed.isEmpty()) {
+                        mismatch.appendText(separator + "failed: ").appendDescriptionOf(descriptionList(failed.map(result ->
+                                description -> description.appendText(result._2 + ": ")
+                                        .appendDescriptionOf(value(result._1.get())))));
+                        separator = ", ";
+                    }
+                    if (!invalid.isEmpty())
+                        mismatch.appendText(separator + "not matching: ").appendDescriptionOf(descriptionList(invalid.map(result ->
+                                description -> {
+                                    description.appendText(result._2 + ": ");
+                                    describesInvalidValue.accept(result._1.get().get(), description);
+                                })));
+                }
+        );
+    }
+
+    /**
+     * Waits at most {@code timeout} for all the Futures to complete, with a single callback on each of them, or until
+     * one of them completes with a result satisfying {@code decides}.
+     *
+     * @return the results of the Futures, if they completed, along with the time waited
+     */
+    private static <T> Tuple2<Vector<Option<Try<T>>>, Duration> awaitAll(Traversable<Future<T>> futures, Duration timeout,
+                                                                         Predicate<Try<T>> decides) {
+        long start = System.nanoTime();
+        Vector<Future<T>> all = futures.toVector();
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicInteger remaining = new AtomicInteger(all.size());
+        if (all.isEmpty())
+            done.countDown();
+        all.forEach(future -> future.onComplete(result -> {
+            if (decides.test(result) || remaining.decrementAndGet() == 0)
+                done.countDown();
+        }));
+        try {
+            done.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Tuple.of(all.map(Future::getValue), Duration.ofNanos(System.nanoTime() - start));
+    }
     //endregion
 
     //region Lazy
     public static <T> Matcher<Lazy<T>> isEvaluated() {
-        return typeSafeMatcher(
+        return typeSafeMatcher("isEvaluated",
                 Lazy::isEvaluated,
                 description -> description.appendText("Expected an evaluated Lazy but it was not"),
                 (t, mismatch) -> mismatch.appendText("Expected an evaluated Lazy but it was not")
@@ -409,7 +1489,7 @@ public class VavrMatchers {
     }
 
     public static <T> Matcher<Lazy<T>> isEvaluated(Matcher<T> matcher) {
-        return typeSafeMatcher(
+        return typeSafeMatcher("isEvaluated",
                 t -> t.isEvaluated() && t.map(matcher::matches).getOrElse(false),
                 description -> description.appendText("Expected an evaluated Lazy but it was not"),
                 (t, mismatch) -> mismatch.appendText("Expected an evaluated Lazy but it was not")
@@ -417,9 +1497,246 @@ public class VavrMatchers {
     }
     //endregion
 
+    //region Latency
+    public static Percentile percentile(double value) {
+        return Percentile.of(value);
+    }
+
+    /**
+     * Verifies that every measured run of a {@code Function0}, a {@code CheckedFunction0} or a {@code Lazy} completes
+     * within {@code timeout}, runs being measured as {@link LatencySampling#getDefault()} says.
+     * <p>
+     * A {@code Lazy} only evaluates once, so it is measured once and without warmup.
+     */
+    public static Matcher<Object> completesWithin(Duration timeout) {
+        return completesWithin(timeout, LatencySampling.getDefault());
+    }
+
+    public static Matcher<Object> completesWithin(Duration timeout, LatencySampling sampling) {
+        String expectation = "Expected every run to complete within " + LatencyHistogram.format(timeout.toNanos());
+        return latencyMatcher("completesWithin", sampling, Percentile.of(100),
+                latency -> latency.compareTo(timeout) <= 0,
+                description -> description.appendText(expectation),
+                (latency, mismatch) -> mismatch.appendText(expectation + " but the slowest took "
+                        + LatencyHistogram.format(latency.toNanos()))
+        );
+    }
+
+    /**
+     * Verifies that the latency of a {@code Function0}, a {@code CheckedFunction0} or a {@code Lazy} at the given
+     * percentile, such as {@code hasLatency(percentile(99), lessThan(Duration.ofMillis(5)))}, matches a
+     * {@code Matcher}, runs being measured as {@link LatencySampling#getDefault()} says.
+     * <p>
+     * A {@code Lazy} only evaluates once, so it is measured once and without warmup.
+     */
+    public static Matcher<Object> hasLatency(Percentile percentile, Matcher<Duration> matcher) {
+        return hasLatency(percentile, matcher, LatencySampling.getDefault());
+    }
+
+    public static Matcher<Object> hasLatency(Percentile percentile, Matcher<Duration> matcher,
+                                             LatencySampling sampling) {
+        return latencyMatcher("hasLatency", sampling, percentile,
+                matcher::matches,
+                description -> description.appendText("Expected the " + percentile + " latency to be ")
+                        .appendDescriptionOf(matcher),
+                (latency, mismatch) -> {
+                    mismatch.appendText("Expected the " + percentile + " latency to be ").appendDescriptionOf(matcher)
+                            .appendText(" but ");
+                    matcher.describeMismatch(latency, mismatch);
+                }
+        );
+    }
+
+    private static Matcher<Object> latencyMatcher(String name,
+                                                  LatencySampling sampling,
+                                                  Percentile percentile,
+                                                  Predicate<Duration> valid,
+                                                  Consumer<Description> describes,
+                                                  BiConsumer<Duration, Description> describesInvalidLatency) {
+        return typeSafeMatcher(name,
+                (Object t) -> measure(t, sampling),
+                measured -> measured.isDefined() && measured.get().isSuccess()
+                        && valid.test(Duration.ofNanos(measured.get().get().valueAt(percentile.value()))),
+                describes,
+                (measured, mismatch) -> {
+                    if (measured.isEmpty()) {
+                        describes.accept(mismatch);
+                        mismatch.appendText(" but it was not a Function0, a CheckedFunction0 or a Lazy");
+                    } else if (measured.get().isFailure()) {
+                        describes.accept(mismatch);
+                        mismatch.appendText(" but it threw ").appendValue(measured.get().getCause());
+                    } else {
+                        LatencyHistogram histogram = measured.get().get();
+                        describesInvalidLatency.accept(Duration.ofNanos(histogram.valueAt(percentile.value())), mismatch);
+                        mismatch.appendText(" (" + histogram + " over " + histogram.count()
+                                + (histogram.count() == 1 ? " sample)" : " samples)"));
+                    }
+                }
+        );
+    }
+
+    private static Option<Try<LatencyHistogram>> measure(Object task, LatencySampling sampling) {
+        if (task instanceof Lazy)
+            return Option.some(Try.of(() -> LatencyHistogram.measure(((Lazy<?>) task)::get, LatencySampling.of(0, 1))));
+        if (task instanceof Function0)
+            return Option.some(Try.of(() -> LatencyHistogram.measure(((Function0<?>) task)::apply, sampling)));
+        if (task instanceof CheckedFunction0)
+            return Option.some(Try.of(() -> LatencyHistogram.measure((CheckedFunction0<?>) task, sampling)));
+        return Option.none();
+    }
+    //endregion
+
+    //region Allocation
+    /**
+     * Whether this JVM can measure the bytes allocated by a thread, without which the allocation matchers never match.
+     */
+    public static boolean canMeasureAllocations() {
+        return AllocationMeter.isSupported();
+    }
+
+    /**
+     * Verifies that a {@code Function0}, a {@code CheckedFunction0} or a {@code Runnable} allocates on average at most
+     * {@code bytes} per measured run, runs being measured as {@link LatencySampling#getDefault()} says.
+     * <p>
+     * Only the allocations of the current thread are counted.
+     */
+    public static Matcher<Object> allocatesAtMost(long bytes) {
+        return allocatesAtMost(bytes, LatencySampling.getDefault());
+    }
+
+    public static Matcher<Object> allocatesAtMost(long bytes, LatencySampling sampling) {
+        return allocationMatcher("allocatesAtMost", sampling, bytes,
+                "Expected at most " + bytes + " bytes allocated per run");
+    }
+
+    public static Matcher<Object> allocatesNothing() {
+        return allocatesNothing(LatencySampling.getDefault());
+    }
+
+    public static Matcher<Object> allocatesNothing(LatencySampling sampling) {
+        return allocationMatcher("allocatesNothing", sampling, 0, "Expected no allocation");
+    }
+
+    private static Matcher<Object> allocationMatcher(String name, LatencySampling sampling, long bytes,
+                                                     String expectation) {
+        return typeSafeMatcher(name,
+                (Object t) -> measureAllocations(t, sampling),
+                measured -> measured.isDefined() && measured.get().isSuccess() && measured.get().get().isDefined()
+                        && (double) measured.get().get().get() / sampling.samples() <= bytes,
+                description -> description.appendText(expectation),
+                (measured, mismatch) -> {
+                    mismatch.appendText(expectation);
+                    if (measured.isEmpty())
+                        mismatch.appendText(" but it was not a Function0, a CheckedFunction0 or a Runnable");
+                    else if (measured.get().isFailure())
+                        mismatch.appendText(" but it threw ").appendValue(measured.get().getCause());
+                    else if (measured.get().get().isEmpty())
+                        mismatch.appendText(" but allocations cannot be measured on this JVM");
+                    else {
+                        long allocated = measured.get().get().get();
+                        mismatch.appendText(String.format(Locale.ROOT, " but it allocated %.1f bytes per run "
+                                + "(%d bytes over %s)", (double) allocated / sampling.samples(), allocated, sampling));
+                    }
+                }
+        );
+    }
+
+    private static Option<Try<Option<Long>>> measureAllocations(Object task, LatencySampling sampling) {
+        if (task instanceof Function0)
+            return Option.some(Try.of(() -> AllocationMeter.measure(((Function0<?>) task)::apply, sampling)));
+        if (task instanceof CheckedFunction0)
+            return Option.some(Try.of(() -> AllocationMeter.measure((CheckedFunction0<?>) task, sampling)));
+        if (task instanceof Runnable) {
+            Runnable runnable = (Runnable) task;
+            return Option.some(Try.of(() -> AllocationMeter.measure(() -> {
+                runnable.run();
+                return null;
+            }, sampling)));
+        }
+        return Option.none();
+    }
+    //endregion
+
+    //region Memory
+    /**
+     * Verifies that the objects reachable from a {@code Traversable}, itself and its elements included, take at most
+     * {@code bytes}, as estimated from the fields of their classes.
+     */
+    public static <T> Matcher<Traversable<T>> hasRetainedSizeAtMost(long bytes) {
+        String expectation = "Expected a retained size of at most " + bytes + " bytes";
+        return typeSafeMatcher("hasRetainedSizeAtMost",
+                ObjectGraph::of,
+                graph -> graph.retainedSize() <= bytes,
+                description -> description.appendText(expectation),
+                (graph, mismatch) -> mismatch.appendText(expectation + " but it retained " + graph.retainedSize()
+                        + " bytes in " + graph.objectCount() + " objects, " + graph.shallowSize() + " bytes of which "
+                        + "for the Traversable itself")
+        );
+    }
+
+    /**
+     * Verifies that at least {@code atLeastRatio} of the structure of a {@code Traversable}, such as the nodes of a
+     * {@code List} or the tries of a {@code Vector} or a {@code HashMap}, is shared with {@code other}, in bytes.
+     * Elements are not part of the structure, so a collection rebuilt from the elements of another shares nothing with
+     * it.
+     *
+     * @param atLeastRatio between 0 and 1
+     */
+    public static <T> Matcher<Traversable<T>> sharesStructureWith(Traversable<?> other, double atLeastRatio) {
+        if (!(atLeastRatio >= 0 && atLeastRatio <= 1))
+            throw new IllegalArgumentException("A ratio must be in [0, 1]");
+        String expectation = String.format(Locale.ROOT, "Expected a Traversable sharing at least %.1f%% of its "
+                + "structure with the given one", atLeastRatio * 100);
+        // other is persistent, so its graph is walked once for every evaluation
+        ObjectGraph otherGraph = ObjectGraph.of(other);
+        return typeSafeMatcher("sharesStructureWith",
+                t -> {
+                    ObjectGraph graph = ObjectGraph.of(t);
+                    return Tuple.of(graph.sharedStructureSize(otherGraph), graph.structureSize());
+                },
+                shared -> shared._2 == 0 || (double) shared._1 / shared._2 >= atLeastRatio,
+                description -> description.appendText(expectation),
+                (shared, mismatch) -> mismatch.appendText(expectation + String.format(Locale.ROOT,
+                        " but it shared %.1f%% of it (%d of %d bytes)", 100.0 * shared._1 / shared._2, shared._1,
+                        shared._2))
+        );
+    }
+    //endregion
+
+    //region Laziness
+    public static <T> Matcher<LazinessProbe<T>> forcedAtMost(int count) {
+        return forcingMatcher("forcedAtMost", 0, count, "at most " + count + " elements or evaluations to be forced");
+    }
+
+    public static <T> Matcher<LazinessProbe<T>> evaluatedExactlyOnce() {
+        return forcingMatcher("evaluatedExactlyOnce", 1, 1, "to be evaluated exactly once");
+    }
+
+    public static <T> Matcher<LazinessProbe<T>> notEvaluated() {
+        return forcingMatcher("notEvaluated", 0, 0, "not to be evaluated");
+    }
+
+    /**
+     * A matcher checking that between {@code min} and {@code max} forcings were counted by a probe, reporting the call
+     * site of the first one beyond {@code max} when the probe was created with that budget.
+     */
+    private static <T> Matcher<LazinessProbe<T>> forcingMatcher(String name, int min, int max, String expectation) {
+        return typeSafeMatcher(name,
+                t -> t.forced() >= min && t.forced() <= max,
+                description -> description.appendText("Expected " + expectation),
+                (t, mismatch) -> {
+                    int forced = t.forced();
+                    mismatch.appendText("Expected " + expectation + " but " + forced + " " + t.unit() + " were forced");
+                    if (forced > max)
+                        t.callSiteBeyond(max).peek(callSite -> mismatch.appendText(", #" + (max + 1) + " at " + callSite));
+                }
+        );
+    }
+    //endregion
+
     //region Tuple
     public static <T> Matcher<Tuple> hasArity(int arity) {
-        return typeSafeMatcher(
+        return typeSafeMatcher("hasArity",
                 t -> t.arity() == arity,
                 description -> description.appendText("Expected a Tuple with arity ").appendValue(arity),
                 (t, mismatch) -> mismatch.appendText("Expected a Tuple with arity ").appendValue(arity)
@@ -428,7 +1745,7 @@ public class VavrMatchers {
     }
 
     public static <T> Matcher<Tuple> hasArity(Matcher<Integer> length) {
-        return typeSafeMatcher(
+        return typeSafeMatcher("hasArity",
                 t -> length.matches(t.arity()),
                 description -> description.appendText("Expected a Tuple to match arity ").appendDescriptionOf(length),
                 (t, mismatch) -> mismatch.appendText("Expected a Tuple to match arity ").appendDescriptionOf(length)
@@ -436,11 +1753,21 @@ public class VavrMatchers {
                         .appendValue(t.arity())
         );
     }
+
+    public static Matcher<Tuple> hasArity(IntPredicate arity) {
+        return typeSafeMatcher("hasArity",
+                t -> arity.test(t.arity()),
+                description -> description.appendText("Expected a Tuple to have an arity matching the predicate"),
+                (t, mismatch) -> mismatch.appendText("Expected a Tuple to have an arity matching the predicate")
+                        .appendText(" but has arity ")
+                        .appendValue(t.arity())
+        );
+    }
     //endregion
 
     //region Validation
     public static <T, U> Matcher<Validation<T, U>> isValid() {
-        return typeSafeMatcher(
+        return typeSafeMatcher("isValid",
                 Validation::isValid,
                 description -> description.appendText("Expected a valid Validation but it was not"),
                 (t, mismatch) -> mismatch.appendText("Expected a valid Validation but it was not")
@@ -448,7 +1775,7 @@ public class VavrMatchers {
     }
 
     public static <T, U> Matcher<Validation<T, U>> isValid(Matcher<U> matcher) {
-        return typeSafeMatcher(
+        return typeSafeMatcher("isValid",
                 t -> t.isValid() && t.map(matcher::matches).getOrElse(false),
                 description -> description.appendText("Expected a valid Validation but it was not"),
                 (t, mismatch) -> mismatch.appendText("Expected a valid Validation but it was not")
@@ -456,7 +1783,7 @@ public class VavrMatchers {
     }
 
     public static <T, U> Matcher<Validation<T, U>> isInvalid() {
-        return typeSafeMatcher(
+        return typeSafeMatcher("isInvalid",
                 Validation::isInvalid,
                 description -> description.appendText("Expected an invalid Validation but it was not"),
                 (t, mismatch) -> mismatch.appendText("Expected an invalid Validation but it was not")
@@ -464,7 +1791,7 @@ public class VavrMatchers {
     }
 
     public static <T, U> Matcher<Validation<T, U>> isInvalid(Matcher<T> matcher) {
-        return typeSafeMatcher(
+        return typeSafeMatcher("isInvalid",
                 t -> t.isInvalid() && t.mapError(matcher::matches).getError(),
                 description -> description.appendText("Expected an invalid Validation but it was not"),
                 (t, mismatch) -> mismatch.appendText("Expected an invalid Validation but it was not")
@@ -472,14 +1799,358 @@ public class VavrMatchers {
     }
     //endregion
 
+    //region Tree
+    /*
+     * The matchers below walk the nodes of a Tree in preorder without recursion, stopping as soon as the result is
+     * known, and report the paths of nodes, such as $[2][0], rather than rendering the whole Tree.
+     */
+
+    /**
+     * The depth of a Tree being its number of levels: 0 when it is empty, 1 when it only has a root.
+     */
+    public static <T> Matcher<Tree<T>> hasDepth(int depth) {
+        return typeSafeMatcher("hasDepth",
+                t -> {
+                    TreeWalk<T> walk = new TreeWalk<>(t);
+                    int levels = 0;
+                    while (walk.next(true)) {
+                        levels = Math.max(levels, walk.depth() + 1);
+                        if (levels > depth)
+                            return Tuple.of(levels, Option.some(walk.path()));
+                    }
+                    return Tuple.of(levels, Option.<String>none());
+                },
+                levels -> levels._1 == depth,
+                description -> description.appendText("Expected a Tree of depth ").appendValue(depth),
+                (levels, mismatch) -> {
+                    mismatch.appendText("Expected a Tree of depth ").appendValue(depth);
+                    if (levels._2.isDefined())
+                        mismatch.appendText(" but found a node at depth ").appendValue(levels._1)
+                                .appendText(" at " + levels._2.get());
+                    else
+                        mismatch.appendText(" but has depth ").appendValue(levels._1);
+                }
+        );
+    }
+
+    public static <T> Matcher<Tree<T>> hasMaxBranching(int max) {
+        return typeSafeMatcher("hasMaxBranching",
+                t -> {
+                    TreeWalk<T> walk = new TreeWalk<>(t);
+                    while (walk.next(true)) {
+                        int branching = walk.node().getChildren().size();
+                        if (branching > max)
+                            return Option.some(Tuple.of(walk.path(), branching));
+                    }
+                    return Option.<Tuple2<String, Integer>>none();
+                },
+                Option::isEmpty,
+                description -> description.appendText("Expected a Tree whose nodes have at most ").appendValue(max)
+                        .appendText(" children"),
+                (violation, mismatch) -> violation.peek(node -> mismatch
+                        .appendText("Expected a Tree whose nodes have at most ").appendValue(max)
+                        .appendText(" children but the node at " + node._1 + " has ").appendValue(node._2))
+        );
+    }
+
+    public static <T> Matcher<Tree<T>> containsNode(Matcher<T> matcher) {
+        return typeSafeMatcher("containsNode",
+                t -> {
+                    TreeWalk<T> walk = new TreeWalk<>(t);
+                    while (walk.next(true)) {
+                        if (matcher.matches(walk.node().getValue()))
+                            return true;
+                    }
+                    return false;
+                },
+                description -> description.appendText("Expected a Tree containing a node matching ")
+                        .appendDescriptionOf(matcher),
+                (t, mismatch) -> mismatch.appendText("Expected a Tree containing a node matching ")
+                        .appendDescriptionOf(matcher).appendText(" but found none")
+        );
+    }
+
+    public static <T> Matcher<Tree<T>> allNodesMatch(Matcher<T> matcher) {
+        return typeSafeMatcher("allNodesMatch",
+                t -> {
+                    TreeWalk<T> walk = new TreeWalk<>(t);
+                    while (walk.next(true)) {
+                        if (!matcher.matches(walk.node().getValue()))
+                            return Option.some(Tuple.of(walk.path(), walk.node().getValue()));
+                    }
+                    return Option.<Tuple2<String, T>>none();
+                },
+                Option::isEmpty,
+                description -> description.appendText("Expected a Tree where all nodes should match ")
+                        .appendDescriptionOf(matcher),
+                (violation, mismatch) -> violation.peek(node -> {
+                    mismatch.appendText("Expected a Tree where all nodes should match ").appendDescriptionOf(matcher)
+                            .appendText(" but the node at " + node._1 + " did not: ");
+                    matcher.describeMismatch(node._2, mismatch);
+                })
+        );
+    }
+
+    /**
+     * Whether a Tree has a path starting at its root, its n-th node matching the n-th matcher. Only the children of
+     * matching nodes are walked.
+     */
+    @SafeVarargs
+    public static <T> Matcher<Tree<T>> hasPathTo(Matcher<T>... matchers) {
+        if (matchers.length == 0)
+            throw new IllegalArgumentException("At least one matcher is needed");
+        java.util.List<Matcher<T>> expected = Arrays.asList(matchers);
+        return typeSafeMatcher("hasPathTo",
+                t -> {
+                    // the number of matchers matched by the longest path found, and the path of its last node
+                    TreeWalk<T> walk = new TreeWalk<>(t);
+                    Tuple2<Integer, String> longest = Tuple.of(0, "$");
+                    boolean descend = true;
+                    while (walk.next(descend)) {
+                        int depth = walk.depth();
+                        descend = matchers[depth].matches(walk.node().getValue());
+                        if (descend && depth + 1 > longest._1)
+                            longest = Tuple.of(depth + 1, walk.path());
+                        if (descend && depth + 1 == matchers.length)
+                            break;
+                    }
+                    return longest;
+                },
+                longest -> longest._1 == matchers.length,
+                description -> description.appendText("Expected a Tree with a path from its root through nodes matching ")
+                        .appendDescriptionOf(descriptionList(expected)),
+                (longest, mismatch) -> {
+                    mismatch.appendText("Expected a Tree with a path from its root through nodes matching ")
+                            .appendDescriptionOf(descriptionList(expected));
+                    if (longest._1 == 0)
+                        mismatch.appendText(" but its root did not match");
+                    else
+                        mismatch.appendText(" but the longest path found ends at " + longest._2 + ", matching only ")
+                                .appendDescriptionOf(descriptionList(expected.subList(0, longest._1)));
+                }
+        );
+    }
+
+    /**
+     * Whether a Tree has the same values as {@code expected}, with the same shape. The subtrees which are the same
+     * instance in both Trees are skipped.
+     */
+    public static <T> Matcher<Tree<T>> isStructurallyEqualTo(Tree<T> expected) {
+        SelfDescribing expectedTree = description -> {
+            if (expected.isEmpty())
+                description.appendText("an empty Tree");
+            else
+                description.appendText("the one rooted at ").appendDescriptionOf(value(expected.get()));
+        };
+        return typeSafeMatcher("isStructurallyEqualTo",
+                t -> {
+                    TreeWalk<T> actualWalk = new TreeWalk<>(t), expectedWalk = new TreeWalk<>(expected);
+                    boolean descend = true;
+                    while (true) {
+                        boolean actualNext = actualWalk.next(descend), expectedNext = expectedWalk.next(descend);
+                        // both walks stay aligned as long as their nodes have as many children
+                        if (!actualNext && !expectedNext)
+                            return Option.<Tuple2<String, SelfDescribing>>none();
+                        if (actualNext != expectedNext)
+                            return Option.some(Tuple.of("$", (SelfDescribing) description -> description
+                                    .appendText(expectedNext ? "expected a non-empty Tree" : "expected an empty Tree")));
+                        Tree.Node<T> actualNode = actualWalk.node(), expectedNode = expectedWalk.node();
+                        if (!Objects.equals(actualNode.getValue(), expectedNode.getValue()))
+                            return Option.some(Tuple.of(actualWalk.path(), (SelfDescribing) description -> description
+                                    .appendText("expected ").appendDescriptionOf(value(expectedNode.getValue()))
+                                    .appendText(" but found ").appendDescriptionOf(value(actualNode.getValue()))));
+                        int actualChildren = actualNode.getChildren().size(), expectedChildren = expectedNode.getChildren().size();
+                        if (actualChildren != expectedChildren)
+                            return Option.some(Tuple.of(actualWalk.path(), (SelfDescribing) description -> description
+                                    .appendText("expected " + expectedChildren + " children but found " + actualChildren)));
+                        descend = actualNode != expectedNode;
+                    }
+                },
+                Option::isEmpty,
+                description -> description.appendText("Expected a Tree structurally equal to ")
+                        .appendDescriptionOf(expectedTree),
+                (difference, mismatch) -> difference.peek(first -> mismatch
+                        .appendText("Expected a Tree structurally equal to ").appendDescriptionOf(expectedTree)
+                        .appendText(" but found a difference at " + first._1 + ": ").appendDescriptionOf(first._2))
+        );
+    }
+    //endregion
+
+    //region Structure
+    /**
+     * Compares nested Options, Trys, Lazys, Eithers, Validations, Tuples, Maps and Seqs node by node, without
+     * recursion, skipping the nodes shared by both values. The mismatch reports the path of the first difference, such
+     * as {@code $.users[3].address.get.right._2}.
+     */
+    public static <T> Matcher<T> deepEquals(T expected) {
+        return structureMatcher("deepEquals", expected, false, "deeply equal to", "deeply equal to the expected one");
+    }
+
+    /**
+     * Like {@link #deepEquals(Object)}, the {@link Matcher}s found in {@code expected} being applied to the nodes of the
+     * actual value at the same paths, such as {@code HashMap.of("id", greaterThan(0), "tags", hasLength(2))}.
+     */
+    public static <T> Matcher<T> matchesStructure(Object expected) {
+        return structureMatcher("matchesStructure", expected, true, "matching the structure",
+                "matching the expected structure");
+    }
+
+    private static <T> Matcher<T> structureMatcher(String name, Object expected, boolean matchers, String expectation,
+                                                   String mismatchExpectation) {
+        return typeSafeMatcher(name,
+                t -> DeepStructure.firstDifference(t, expected, matchers),
+                Option::isEmpty,
+                // the expected value is only described by its shape, as vavr renders nested values recursively
+                description -> description.appendText("Expected a value " + expectation + " ")
+                        .appendDescriptionOf(DeepStructure.shape(expected)),
+                (difference, mismatch) -> difference.peek(first -> mismatch
+                        .appendText("Expected a value " + mismatchExpectation + " but found a difference ")
+                        .appendDescriptionOf(first))
+        );
+    }
+    //endregion
+
+    //region Rendering
+    /**
+     * Renders the descriptions of {@code matcher} within {@code budget} rather than the default one.
+     */
+    public static <T> Matcher<T> withRenderingBudget(RenderingBudget budget, Matcher<T> matcher) {
+        return new BaseMatcher<T>() {
+            @Override
+            public boolean matches(Object actual) {
+                return matcher.matches(actual);
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                budget.apply(() -> matcher.describeTo(description));
+            }
+
+            @Override
+            public void describeMismatch(Object item, Description mismatch) {
+                budget.apply(() -> matcher.describeMismatch(item, mismatch));
+            }
+        };
+    }
+
+    private static SelfDescribing value(Object value) {
+        return description -> RenderingBudget.current().appendValue(description, value);
+    }
+
+    private static SelfDescribing string(Object value) {
+        return description -> RenderingBudget.current().appendString(description, value);
+    }
+
+    private static SelfDescribing valueList(Iterable<?> values) {
+        return description -> {
+            RenderingBudget budget = RenderingBudget.current();
+            budget.appendList(description, "[", ",", "]", values, budget::appendValue);
+        };
+    }
+
+    private static SelfDescribing stringList(String start, Iterable<?> values, String end) {
+        return description -> {
+            RenderingBudget budget = RenderingBudget.current();
+            budget.appendList(description, start, ", ", end, values, budget::appendString);
+        };
+    }
+
+    private static SelfDescribing descriptionList(Iterable<? extends SelfDescribing> values) {
+        return description -> RenderingBudget.current()
+                .appendList(description, "[", ",", "]", values, Description::appendDescriptionOf);
+    }
+
+    /**
+     * Renders elements with their count, the count being omitted when it is 1.
+     */
+    private static SelfDescribing counts(Iterable<java.util.Map.Entry<Object, Integer>> counts) {
+        return description -> {
+            RenderingBudget budget = RenderingBudget.current();
+            budget.appendList(description, "[", ",", "]", counts, (d, count) -> {
+                budget.appendValue(d, count.getKey());
+                if (count.getValue() > 1)
+                    d.appendText(" (x" + count.getValue() + ")");
+            });
+        };
+    }
+    //endregion
+
     //region TypeSafeMatcher
-    private static <T> TypeSafeMatcher<T> typeSafeMatcher(Function1<T, Boolean> matches,
+    /**
+     * The matcher, input and diagnostic of the last failed match of a diagnostic matcher on this thread.
+     */
+    private static final ThreadLocal<Tuple3<Object, Object, Object>> lastMismatch = new ThreadLocal<>();
+
+    /**
+     * Drops the diagnostic kept on this thread, for tasks evaluating matchers on pool threads, which would otherwise
+     * retain the input of their last failed match.
+     */
+    static void dropMismatch() {
+        lastMismatch.remove();
+    }
+
+    private static <T> TypeSafeMatcher<T> typeSafeMatcher(String name,
+                                                          Function1<T, Boolean> matches,
                                                           Consumer<Description> describes,
                                                           BiConsumer<T, Description> describesMismatch) {
         return new TypeSafeMatcher<T>() {
             @Override
             protected boolean matchesSafely(T t) {
-                return matches.apply(t);
+                if (!MatcherMetrics.isEnabled())
+                    return matches.apply(t);
+                return MatcherMetrics.match(name, t, () -> matches.apply(t));
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                describes.accept(description);
+            }
+
+            @Override
+            public void describeMismatchSafely(T t, Description mismatch) {
+                if (!MatcherMetrics.isEnabled())
+                    describesMismatch.accept(t, mismatch);
+                else
+                    MatcherMetrics.describeMismatch(name, t, () -> describesMismatch.accept(t, mismatch));
+            }
+        };
+    }
+
+    /**
+     * A matcher whose match phase evaluates a diagnostic, such as a first violation or missing elements, from which
+     * both the match result and the mismatch are derived.
+     * <p>
+     * The diagnostic of a failed match is kept on the current thread, so that the input, which may be a consumed
+     * iterator, is not evaluated again however many times the mismatch is described. The diagnostic must therefore
+     * hold everything the mismatch renders rather than a live view on the input. Only the last one is kept per thread,
+     * and it is replaced when any such matcher next matches, so that a failed match whose mismatch is never described,
+     * as under {@code not(...)}, does not retain its input for long. The input is evaluated again when the mismatch is
+     * described for another input.
+     * <p>
+     * Matchers whose mismatch needs more than their match phase computes, such as {@code isUnique} which stops at the
+     * first duplicate but reports them all, use the other overload and scan their input again; they only accept inputs
+     * which can be scanned twice, such as a {@code Seq}.
+     */
+    private static <T, D> TypeSafeMatcher<T> typeSafeMatcher(String name,
+                                                             Function1<T, D> evaluates,
+                                                             Predicate<D> matches,
+                                                             Consumer<Description> describes,
+                                                             BiConsumer<D, Description> describesMismatch) {
+        return new TypeSafeMatcher<T>() {
+            @Override
+            protected boolean matchesSafely(T t) {
+                if (!MatcherMetrics.isEnabled())
+                    return evaluate(t);
+                return MatcherMetrics.match(name, t, () -> evaluate(t));
+            }
+
+            private boolean evaluate(T t) {
+                lastMismatch.remove();
+                D diagnostic = evaluates.apply(t);
+                if (matches.test(diagnostic))
+                    return true;
+                lastMismatch.set(Tuple.of(this, t, diagnostic));
+                return false;
             }
 
             @Override
@@ -489,7 +2160,18 @@ public class VavrMatchers {
 
             @Override
             public void describeMismatchSafely(T t, Description mismatch) {
-                describesMismatch.accept(t, mismatch);
+                if (!MatcherMetrics.isEnabled())
+                    describe(t, mismatch);
+                else
+                    MatcherMetrics.describeMismatch(name, t, () -> describe(t, mismatch));
+            }
+
+            @SuppressWarnings("unchecked")
+            private void describe(T t, Description mismatch) {
+                Tuple3<Object, Object, Object> last = lastMismatch.get();
+                describesMismatch.accept(last != null && last._1 == this && last._2 == t
+                        ? (D) last._3
+                        : evaluates.apply(t), mismatch);
             }
         };
     }
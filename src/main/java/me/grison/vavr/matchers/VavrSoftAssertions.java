@@ -0,0 +1,130 @@
+package me.grison.vavr.matchers;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects the failures of many checks, to report them all at once with {@link #assertAll()} rather than stopping at
+ * the first one.
+ * <p>
+ * A failed check keeps the description of its matcher and its reason, along with its mismatch for the first
+ * {@code rendered} failures, but not the actual value. {@link #assertAll()} groups the failures by reason and
+ * description, reporting each group once with how many checks failed it. Checks may be made from several threads at
+ * once.
+ * <pre>
+ * VavrSoftAssertions soft = VavrSoftAssertions.create();
+ * records.forEach(record -&gt; soft.assertThat(validate(record), isValid()));
+ * soft.assertAll();
+ * </pre>
+ */
+public final class VavrSoftAssertions {
+    private final int rendered;
+    private final AtomicInteger checks = new AtomicInteger();
+    private final AtomicInteger mismatches = new AtomicInteger();
+    private final Queue<Failure> failures = new ConcurrentLinkedQueue<>();
+
+    private VavrSoftAssertions(int rendered) {
+        this.rendered = rendered;
+    }
+
+    /**
+     * A collector rendering the mismatches of the first 10 failures.
+     */
+    public static VavrSoftAssertions create() {
+        return create(10);
+    }
+
+    /**
+     * A collector rendering the mismatches of the first {@code rendered} failures, the others being only counted.
+     */
+    public static VavrSoftAssertions create(int rendered) {
+        if (rendered < 0)
+            throw new IllegalArgumentException("rendered < 0");
+        return new VavrSoftAssertions(rendered);
+    }
+
+    public <T> VavrSoftAssertions assertThat(T actual, Matcher<? super T> matcher) {
+        return assertThat("", actual, matcher);
+    }
+
+    public <T> VavrSoftAssertions assertThat(String reason, T actual, Matcher<? super T> matcher) {
+        int check = checks.getAndIncrement();
+        if (matcher.matches(actual))
+            return this;
+        // the mismatch is described right after the match, from its diagnostic, and only within the budget
+        String mismatch = null;
+        if (mismatches.getAndIncrement() < rendered) {
+            Description description = new StringDescription();
+            matcher.describeMismatch(actual, description);
+            mismatch = description.toString();
+        }
+        failures.add(new Failure(check, reason, StringDescription.toString(matcher), mismatch));
+        return this;
+    }
+
+    /**
+     * How many checks failed so far.
+     */
+    public int failureCount() {
+        return failures.size();
+    }
+
+    /**
+     * @throws AssertionError describing the failures, grouped by reason and expectation, if any check failed
+     */
+    public void assertAll() {
+        Seq<Failure> failed = List.ofAll(failures).sortBy(failure -> failure.check);
+        if (failed.isEmpty())
+            return;
+        throw new AssertionError(render(failed));
+    }
+
+    private String render(Seq<Failure> failed) {
+        Map<String, java.util.List<Failure>> shapes = new LinkedHashMap<>();
+        for (Failure failure : failed) {
+            String shape = (failure.reason.isEmpty() ? "" : " " + failure.reason) + "\nExpected: " + failure.expectation;
+            shapes.computeIfAbsent(shape, s -> new ArrayList<>()).add(failure);
+        }
+        Description description = new StringDescription()
+                .appendText(failed.size() + " of " + checks.get() + " checks failed");
+        for (Map.Entry<String, java.util.List<Failure>> shape : shapes.entrySet()) {
+            java.util.List<Failure> group = shape.getValue();
+            description.appendText("\n\n[" + group.size() + (group.size() == 1 ? " failure]" : " failures]"))
+                    .appendText(shape.getKey());
+            int shown = 0;
+            for (Failure failure : group) {
+                if (failure.mismatch != null) {
+                    description.appendText("\n     but (check " + failure.check + "): " + failure.mismatch);
+                    shown++;
+                }
+            }
+            if (shown < group.size())
+                description.appendText("\n     ...and " + (group.size() - shown) + " more");
+        }
+        return description.toString();
+    }
+
+    private static final class Failure {
+        private final int check;
+        private final String reason;
+        private final String expectation;
+        private final String mismatch;
+
+        private Failure(int check, String reason, String expectation, String mismatch) {
+            this.check = check;
+            this.reason = reason;
+            this.expectation = expectation;
+            this.mismatch = mismatch;
+        }
+    }
+}
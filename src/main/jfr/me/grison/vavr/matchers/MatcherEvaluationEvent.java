@@ -0,0 +1,61 @@
+package me.grison.vavr.matchers;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * The JDK Flight Recorder event of {@link MatcherMetrics#flightRecorder()}, only loaded once that sink is requested.
+ * <p>
+ * It is compiled for Java 11, apart from the Java 8 sources, and only when building on JDK 11 or later.
+ */
+@Name("me.grison.vavr.matchers.Evaluation")
+@Label("Matcher Evaluation")
+@Category({"Vavr Matchers"})
+@Description("A match, or the description of a mismatch, by a matcher of VavrMatchers")
+final class MatcherEvaluationEvent extends Event {
+    @Label("Matcher")
+    String matcher;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Input Type")
+    Class<?> inputType;
+
+    @Label("Input Size")
+    int inputSize;
+
+    @Label("Matched")
+    boolean matched;
+
+    @Label("Evaluation Time")
+    @Timespan
+    long evaluationTime;
+
+    static void record(MatcherMetrics.Evaluation evaluation) {
+        MatcherEvaluationEvent event = new MatcherEvaluationEvent();
+        if (!event.isEnabled())
+            return;
+        event.matcher = evaluation.matcher();
+        event.phase = evaluation.phase().name();
+        event.inputType = evaluation.inputType();
+        event.inputSize = evaluation.inputSize();
+        event.matched = evaluation.matched();
+        event.evaluationTime = evaluation.nanos();
+        event.commit();
+    }
+
+    /**
+     * The sink instantiated by name by {@link MatcherMetrics#flightRecorder()}.
+     */
+    static final class Recorder implements MatcherMetrics.Sink {
+        @Override
+        public void record(MatcherMetrics.Evaluation evaluation) {
+            MatcherEvaluationEvent.record(evaluation);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package me.grison.vavr.matchers;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class LatencyHistogramTest {
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100; i++)
+            histogram.record(i);
+        assertThat(histogram.count(), is(100L));
+        assertThat(histogram.valueAt(50), is(50L));
+        assertThat(histogram.valueAt(99), is(99L));
+        assertThat(histogram.valueAt(100), is(100L));
+        assertThat(histogram.max(), is(100L));
+    }
+
+    @Test
+    public void testLargeValuesAreWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 10_000; i++)
+            histogram.record(i * 1_000);
+        assertThat((double) histogram.valueAt(50), closeTo(5_000_000, 5_000_000 * 0.016));
+        assertThat((double) histogram.valueAt(99), closeTo(9_900_000, 9_900_000 * 0.016));
+        assertThat(histogram.valueAt(100), is(10_000_000L));
+        assertThat(histogram.valueAt(50), greaterThanOrEqualTo(5_000_000L));
+    }
+
+    @Test
+    public void testExtremeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-1);
+        assertThat(histogram.valueAt(100), is(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testToString() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(100);
+        histogram.record(1_500_000);
+        assertThat(histogram.toString(), is("p50=100 ns, p90=1.5 ms, p99=1.5 ms, p99.9=1.5 ms, max=1.5 ms"));
+        assertThat(LatencyHistogram.format(2_500), is("2.5 us"));
+        assertThat(LatencyHistogram.format(2_500_000_000L), is("2.50 s"));
+    }
+}
@@ -0,0 +1,103 @@
+package me.grison.vavr.matchers;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.hamcrest.CustomTypeSafeMatcher;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static me.grison.vavr.matchers.VavrMatchers.containsKeys;
+import static me.grison.vavr.matchers.VavrMatchers.isEmpty;
+import static me.grison.vavr.matchers.VavrMatchers.isRight;
+import static me.grison.vavr.matchers.VavrMatchers.isSorted;
+import static me.grison.vavr.matchers.VavrMatchers.isSuccess;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class PropertyTest {
+    @Test
+    public void testHolds() {
+        Property.forAll(Gen.list(Gen.choose(0, 100), 20).map(List::sorted), isSorted()).samples(500).check();
+        assertThat(Property.forAll(Gen.choose(0, 10), lessThan(11)).falsify(), is(Option.none()));
+    }
+
+    @Test
+    public void testShrinksSeq() {
+        Property.Counterexample<List<Integer>> counterexample =
+                Property.forAll(Gen.list(Gen.choose(0, 100), 20), isSorted()).seed(42).falsify().get();
+        assertThat(counterexample.original().size(), greaterThan(1));
+        assertThat(counterexample.shrunk(), is(List.of(1, 0)));
+    }
+
+    @Test
+    public void testShrinksMapOptionEitherAndTry() {
+        Map<Integer, Integer> map = Property.forAll(Gen.map(Gen.choose(0, 10), Gen.choose(0, 10), 10), not(containsKeys(3)))
+                .seed(1).falsify().get().shrunk();
+        assertThat(map, is(HashMap.of(3, 0)));
+
+        Option<Integer> option = Property.forAll(Gen.option(Gen.choose(1, 100)), isEmpty()).seed(1).falsify().get().shrunk();
+        assertThat(option, is(Option.some(0)));
+
+        Either<String, Integer> either = Property.forAll(Gen.either(Gen.strings(5), Gen.choose(0, 100)), isRight(lessThan(50)))
+                .seed(1).falsify().get().shrunk();
+        assertThat(either, anyOf(is(Either.left("")), is(Either.right(50))));
+
+        Try<String> t = Property.forAll(Gen.tryOf(Gen.strings(10)), isSuccess(is(emptyString())))
+                .seed(1).falsify().get().shrunk();
+        assertThat(t.map(String::length).getOrElse(1), is(1));
+    }
+
+    @Test
+    public void testDeterministicWhateverTheExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Property<List<Integer>> property = Property.forAll(Gen.list(Gen.choose(0, 1_000), 10), isSorted())
+                    .seed(7).shards(4).samples(10_000);
+            assertThat(property.executor(executor).falsify().get().original(),
+                    is(property.falsify().get().original()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testCheckReportsShrunkCounterexample() {
+        try {
+            Property.forAll(Gen.list(Gen.choose(0, 100), 20), isSorted()).seed(42).shards(2).check();
+        } catch (AssertionError e) {
+            assertThat(e.getMessage(), startsWith("Property falsified by sample "));
+            assertThat(e.getMessage(), containsString("(seed 42, 2 shards)"));
+            assertThat(e.getMessage(), endsWith(" steps: <List(1, 0)>\nExpected: Expected a Seq to be sorted but it was not\n"
+                    + "     but: Expected a Seq to be sorted but found <1> at index 0 followed by <0> at index 1"));
+            return;
+        }
+        throw new AssertionError("The property should not hold");
+    }
+
+    @Test
+    public void testDefaultShardsDoNotDependOnTheMachine() {
+        try {
+            Property.forAll(Gen.list(Gen.choose(0, 100), 20), isSorted()).seed(42).check();
+        } catch (AssertionError e) {
+            assertThat(e.getMessage(), containsString("(seed 42, 8 shards)"));
+            return;
+        }
+        throw new AssertionError("The property should not hold");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testPropagatesExceptions() {
+        Property.forAll(Gen.constant(1), new CustomTypeSafeMatcher<Integer>("throwing") {
+            @Override
+            protected boolean matchesSafely(Integer item) {
+                throw new IllegalStateException();
+            }
+        }).check();
+    }
+}
@@ -1,21 +1,48 @@
 package me.grison.vavr.matchers;
 
+import io.vavr.CheckedFunction0;
+import io.vavr.Function0;
 import io.vavr.Lazy;
 import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Array;
+import io.vavr.collection.CharSeq;
 import io.vavr.collection.HashMap;
 import io.vavr.collection.HashSet;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.LinkedHashMap;
 import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.collection.Set;
+import io.vavr.collection.Stream;
+import io.vavr.collection.Traversable;
+import io.vavr.collection.Tree;
+import io.vavr.collection.TreeSet;
+import io.vavr.collection.Vector;
 import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import io.vavr.control.Validation;
+import org.hamcrest.CustomTypeSafeMatcher;
 import org.hamcrest.Description;
+import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
 import org.hamcrest.SelfDescribing;
 import org.hamcrest.StringDescription;
 import org.junit.Test;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
 import static me.grison.vavr.matchers.VavrMatchers.contains;
 import static me.grison.vavr.matchers.VavrMatchers.containsInAnyOrder;
 import static me.grison.vavr.matchers.VavrMatchers.endsWith;
@@ -24,6 +51,7 @@ import static me.grison.vavr.matchers.VavrMatchers.startsWith;
 import static me.grison.vavr.matchers.VavrMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.Assume.assumeTrue;
 
 public class VavrMatchersTest {
     @Test
@@ -174,6 +202,41 @@ public class VavrMatchersTest {
                 is("Expected Traversable to match length a value less than <2> but has length <3>"));
     }
 
+    @Test
+    public void testHasLengthOnLazyInputs() {
+        assertThat(Stream.from(1), not(hasLength(3)));
+        assertThat(Stream.from(1).take(3), hasLength(3));
+        assertThat(Iterator.range(0, 3), hasLength(3));
+
+        assertThat(Stream.from(1), hasLengthAtLeast(1_000));
+        assertThat(Stream.range(0, 3), not(hasLengthAtLeast(4)));
+        assertThat(List.empty(), hasLengthAtLeast(0));
+        assertThat(Stream.from(1), not(hasLengthAtMost(1_000)));
+        assertThat(List.of(1, 2), hasLengthAtMost(2));
+        assertThat(Stream.from(1).take(5), hasLengthBetween(3, 5));
+        assertThat(Stream.from(1), not(hasLengthBetween(3, 5)));
+        assertThat(Vector.of(1, 2), not(hasLengthBetween(3, 5)));
+
+        LazinessProbe<Stream<Integer>> probe = LazinessProbe.stream(Stream.from(1));
+        assertThat(probe.get(), not(hasLengthAtMost(10)));
+        assertThat(probe, forcedAtMost(11));
+
+        Description description = new StringDescription();
+        hasLength(2).describeMismatch(Stream.from(1), description);
+        assertThat(description.toString(),
+                is("Expected Traversable to have length <2> but has more than <2> elements"));
+
+        description = new StringDescription();
+        hasLengthAtLeast(4).describeMismatch(Stream.of(1, 2), description);
+        assertThat(description.toString(),
+                is("Expected Traversable to have length at least <4> but has length <2>"));
+
+        description = new StringDescription();
+        hasLengthBetween(1, 2).describeMismatch(List.of(1, 2, 3), description);
+        assertThat(description.toString(),
+                is("Expected Traversable to have length between <1> and <2> but has length <3>"));
+    }
+
     @Test
     public void testContains() {
         assertThat(List.of("foo", "bar"), contains("foo"));
@@ -195,11 +258,38 @@ public class VavrMatchersTest {
         assertThat(List.of("foo", "bar", "bazz"), containsInAnyOrder(List.of("bar", "foo")));
         assertThat(List.of("foo", "bar", "bazz"), containsInAnyOrder("bar", "foo"));
         assertThat(List.empty(), not(containsInAnyOrder(List.of("foo", "bar"))));
+        assertThat(List.of("foo"), not(containsInAnyOrder("foo", "foo")));
+        assertThat(List.of("foo", "bar", "foo"), containsInAnyOrder("foo", "foo"));
+        assertThat(Stream.from(1), containsInAnyOrder(1000, 10, 100));
 
         Description description = new StringDescription();
         containsInAnyOrder(List.of("foo", "bar", "bazz")).describeMismatch(List.of("foo"), description);
         assertThat(description.toString(),
                 is("Expected a Traversable containing all of [\"foo\",\"bar\",\"bazz\"] but is missing [\"bar\",\"bazz\"]"));
+
+        description = new StringDescription();
+        containsInAnyOrder(1, 1, 1, 2).describeMismatch(List.of(1, 3), description);
+        assertThat(description.toString(),
+                is("Expected a Traversable containing all of [<1>,<1>,<1>,<2>] but is missing [<1> (x2),<2>]"));
+    }
+
+    @Test
+    public void testExactlyInAnyOrder() {
+        assertThat(List.of("foo", "bar", "foo"), exactlyInAnyOrder("foo", "foo", "bar"));
+        assertThat(List.of("foo", "bar", "foo"), not(exactlyInAnyOrder("foo", "bar")));
+        assertThat(List.of("foo", "bar"), not(exactlyInAnyOrder("foo", "bar", "bar")));
+        assertThat(List.empty(), exactlyInAnyOrder(List.empty()));
+
+        Description description = new StringDescription();
+        exactlyInAnyOrder(1, 2, 2).describeMismatch(List.of(3, 2, 1, 3, 1), description);
+        assertThat(description.toString(),
+                is("Expected a Traversable containing exactly all of [<1>,<2>,<2>] in any order "
+                        + "but is missing [<2>] and also contains [<3> (x2),<1>]"));
+
+        description = new StringDescription();
+        exactlyInAnyOrder(1).describeMismatch(List.of(1, 2), description);
+        assertThat(description.toString(),
+                is("Expected a Traversable containing exactly all of [<1>] in any order but also contains [<2>]"));
     }
 
     @Test
@@ -208,11 +298,38 @@ public class VavrMatchersTest {
         assertThat(List.of("bar", "foo", "bazz"), containsSubList("bar", "foo"));
         assertThat(List.empty(), not(containsSubList(List.of("foo", "bar"))));
         assertThat(List.of("bazz", "foo", "bar"), containsSubList(List.of("foo", "bar")));
+        assertThat(List.of(1, 2, 1, 2, 1, 3), containsSubList(1, 2, 1, 3));
+        assertThat(List.of(1, 2, 1, 2, 1, 2), not(containsSubList(1, 2, 1, 3)));
+        assertThat(Stream.from(1), containsSubList(41, 42, 43));
+        assertThat(List.of(1, 2), containsSubList(List.empty()));
 
         Description description = new StringDescription();
         containsSubList(List.of("foo", "bar", "bazz")).describeMismatch(List.of("foo"), description);
         assertThat(description.toString(),
-                is("Expected a Traversable containing in same order all of [\"foo\",\"bar\",\"bazz\"] but is missing [\"bar\",\"bazz\"]"));
+                is("Expected a Traversable containing in same order all of [\"foo\",\"bar\",\"bazz\"] but the longest partial match was [\"foo\"] at index 0"));
+
+        description = new StringDescription();
+        containsSubList(1, 2, 3).describeMismatch(List.of(2, 1, 2, 4, 1, 2), description);
+        assertThat(description.toString(),
+                is("Expected a Traversable containing in same order all of [<1>,<2>,<3>] but the longest partial match was [<1>,<2>] at index 1"));
+
+        description = new StringDescription();
+        containsSubList(1, 2).describeMismatch(List.of(3, 4), description);
+        assertThat(description.toString(),
+                is("Expected a Traversable containing in same order all of [<1>,<2>] but found no partial match"));
+    }
+
+    @Test
+    public void testContainsSubListOfMatchers() {
+        assertThat(List.of(1, 5, 2, 7, 3), containsSubList(lessThan(3), greaterThan(5)));
+        assertThat(List.of(1, 1, 1, 9), containsSubList(is(1), is(1), greaterThan(5)));
+        assertThat(List.of(1, 5, 2, 4), not(containsSubList(lessThan(3), greaterThan(5))));
+
+        Description description = new StringDescription();
+        containsSubList(is(1), is(2), is(3)).describeMismatch(List.of(0, 1, 2, 4), description);
+        assertThat(description.toString(),
+                is("Expected a Traversable containing in same order elements matching [is <1>,is <2>,is <3>] "
+                        + "but the longest partial match was [is <1>,is <2>] at index 1"));
     }
 
     @Test
@@ -223,11 +340,20 @@ public class VavrMatchersTest {
         assertThat(List.of("foo", "bar", "bazz"), not(containsInOrder("bar", "foo")));
         assertThat(List.of("foo", "bar"), not(containsInOrder("foo", "bar", "bazz")));
         assertThat(List.empty(), not(containsInOrder(List.of("foo", "bar"))));
+        assertThat(List.of("foo", "bar"), containsInOrder(List.empty()));
+        assertThat(Stream.from(1), containsInOrder(10, 100, 1000));
 
         Description description = new StringDescription();
         containsInOrder(List.of("foo", "bar")).describeMismatch(List.of("bar", "foo", "bazz"), description);
         assertThat(description.toString(),
-                is("Expected a Traversable containing in same order all of [\"foo\",\"bar\"] but was not"));
+                is("Expected a Traversable containing in same order all of [\"foo\",\"bar\"] "
+                        + "but only found 1 of 2 elements in order: \"bar\" is missing after index 1 (3 elements scanned)"));
+
+        description = new StringDescription();
+        containsInOrder("quxx", "foo").describeMismatch(List.of("bar", "foo"), description);
+        assertThat(description.toString(),
+                is("Expected a Traversable containing in same order all of [\"quxx\",\"foo\"] "
+                        + "but only found 0 of 2 elements in order: \"quxx\" is missing (2 elements scanned)"));
     }
 
     @Test
@@ -241,26 +367,308 @@ public class VavrMatchersTest {
                 is("Expected a Traversable where all elements should match is <true> but found non-matching elements [<false>,<false>]"));
     }
 
+    @Test
+    public void testMismatchReusesMatchEvaluation() {
+        AtomicInteger evaluations = new AtomicInteger();
+        Matcher<Traversable<Integer>> matcher = allMatch(new CustomTypeSafeMatcher<Integer>("a counted value less than 3") {
+            @Override
+            protected boolean matchesSafely(Integer item) {
+                evaluations.incrementAndGet();
+                return item < 3;
+            }
+        });
+
+        Iterator<Integer> iterator = Iterator.of(1, 2, 3, 4, 1);
+        assertThat(matcher.matches(iterator), is(false));
+        Description description = new StringDescription();
+        matcher.describeMismatch(iterator, description);
+        assertThat(description.toString(),
+                is("Expected a Traversable where all elements should match a counted value less than 3 "
+                        + "but found non-matching elements [<3>,<4>]"));
+        assertThat(evaluations.get(), is(5));
+
+        description = new StringDescription();
+        matcher.describeMismatch(List.of(5), description);
+        assertThat(description.toString(),
+                is("Expected a Traversable where all elements should match a counted value less than 3 "
+                        + "but found non-matching elements [<5>]"));
+    }
+
+    @Test
+    public void testMismatchCacheIsConfinedToTheThread() throws Exception {
+        Matcher<Traversable<Integer>> matcher = hasLength(greaterThan(5));
+        Iterator<Integer> iterator = Iterator.of(1, 2, 3);
+        assertThat(matcher.matches(iterator), is(false));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertThat(executor.submit(() -> matcher.matches(Iterator.of(1))).get(), is(false));
+        } finally {
+            executor.shutdown();
+        }
+        Description description = new StringDescription();
+        matcher.describeMismatch(iterator, description);
+        assertThat(description.toString(),
+                is("Expected Traversable to match length a value greater than <5> but has length <3>"));
+    }
+
+    @Test
+    public void testMismatchCacheIsReplacedOnNextMatch() {
+        Matcher<Traversable<Integer>> matcher = allMatch(lessThan(2));
+        Iterator<Integer> iterator = Iterator.of(1, 2, 3);
+        assertThat(iterator, not(matcher));
+
+        // the diagnostic holds the failures, so that the drained iterator can be described again
+        for (int i = 0; i < 2; i++) {
+            Description description = new StringDescription();
+            matcher.describeMismatch(iterator, description);
+            assertThat(description.toString(), is("Expected a Traversable where all elements should match "
+                    + "a value less than <2> but found non-matching elements [<2>,<3>]"));
+        }
+
+        assertThat(List.of(1, 1), matcher);
+        Description description = new StringDescription();
+        matcher.describeMismatch(List.of(1, 5), description);
+        assertThat(description.toString(), is("Expected a Traversable where all elements should match "
+                + "a value less than <2> but found non-matching elements [<5>]"));
+    }
+
+    @Test
+    public void testMismatchCacheIsDroppedOnPoolThreads() throws Exception {
+        ForkJoinPool executor = new ForkJoinPool(1);
+        try {
+            Matcher<Traversable<Integer>> length = hasLength(greaterThan(5));
+            Iterator<Integer> element = Iterator.of(1, 2, 3);
+            assertThat(Vector.<Traversable<Integer>>of(element), not(allMatchParallel(length, executor)));
+
+            // the pool thread kept no diagnostic, so the drained iterator is evaluated again
+            String mismatch = executor.submit(() -> {
+                Description description = new StringDescription();
+                length.describeMismatch(element, description);
+                return description.toString();
+            }).get();
+            assertThat(mismatch, is("Expected Traversable to match length a value greater than <5> but has length <0>"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testAllMatchParallel() {
+        assertThat(Vector.range(0, 10_000), allMatchParallel(lessThan(10_000)));
+        assertThat(List.range(0, 10_000), not(allMatchParallel(lessThan(9_999))));
+        assertThat(Vector.empty(), allMatchParallel(is(1)));
+
+        // a single thread scans the 4 chunks in order
+        ForkJoinPool executor = new ForkJoinPool(1);
+        try {
+            Description description = new StringDescription();
+            allMatchParallel(lessThan(5), executor).describeMismatch(Vector.range(0, 10), description);
+            assertThat(description.toString(),
+                    is("Expected a Traversable where all elements should match a value less than <5> "
+                            + "but found non-matching elements [<5>] and possibly more"));
+
+            description = new StringDescription();
+            allMatchParallel(lessThan(5), executor).describeMismatch(Array.range(0, 1000), description);
+            assertThat(description.toString(),
+                    is("Expected a Traversable where all elements should match a value less than <5> "
+                            + "but found non-matching elements [<5>,<6>,<7>,<8>,<9>,<10>,<11>,<12>,<13>,<14>] and possibly more"));
+
+            AtomicInteger evaluated = new AtomicInteger();
+            Matcher<Integer> counting = new CustomTypeSafeMatcher<Integer>("a counted value other than 0") {
+                @Override
+                protected boolean matchesSafely(Integer item) {
+                    evaluated.incrementAndGet();
+                    return item != 0;
+                }
+            };
+            assertThat(Vector.range(0, 10_000), not(allMatchParallel(counting, executor)));
+            assertThat(evaluated.get(), is(2_500));
+        } finally {
+            executor.shutdown();
+        }
+
+        Matcher<Traversable<Integer>> matcher = allMatchParallel(lessThan(10));
+        Iterator<Integer> iterator = Iterator.of(1, 2, 3, 50);
+        assertThat(matcher.matches(iterator), is(false));
+        Description description = new StringDescription();
+        matcher.describeMismatch(iterator, description);
+        assertThat(description.toString(),
+                is("Expected a Traversable where all elements should match a value less than <10> "
+                        + "but found non-matching elements [<50>]"));
+    }
+
+    @Test
+    public void testContainsParallel() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            assertThat(Vector.range(0, 10_000), containsParallel(is(9_999), executor));
+            assertThat(HashSet.range(0, 10_000), containsParallel(is(42), executor));
+            assertThat(Vector.range(0, 10_000), not(containsParallel(is(-1), executor)));
+            assertThat(List.empty(), not(containsParallel(is(1))));
+        } finally {
+            executor.shutdown();
+        }
+
+        Description description = new StringDescription();
+        containsParallel(is(0)).describeMismatch(List.of(1, 2), description);
+        assertThat(description.toString(),
+                is("Expected at least one element matching `is <0>' but found <List(1, 2)>"));
+    }
+
+    @Test
+    public void testContainsParallelOnIterator() {
+        Matcher<Traversable<Integer>> matcher = containsParallel(is(0));
+        Iterator<Integer> iterator = Iterator.of(1, 2);
+        assertThat(matcher.matches(iterator), is(false));
+        Description description = new StringDescription();
+        matcher.describeMismatch(iterator, description);
+        assertThat(description.toString(), is("Expected at least one element matching `is <0>' but found <Iterator(1, 2)>"));
+    }
+
+    @Test
+    public void testRenderingBudget() {
+        Description description = new StringDescription();
+        startsWith(List.range(0, 100)).describeTo(description);
+        assertThat(description.toString(), allOf(
+                Matchers.startsWith("Expected a Seq to start with [<0>,<1>,"),
+                containsString(",<49>,...40 more...,<90>,"),
+                Matchers.endsWith(",<98>,<99>]")));
+
+        description = new StringDescription();
+        allMatch(is(-1)).describeMismatch(List.range(0, 100), description);
+        assertThat(description.toString(), is("Expected a Traversable where all elements should match is <-1> "
+                + "but found non-matching elements [<0>,<1>,<2>,<3>,<4>,<5>,<6>,<7>,<8>,<9>] and more"));
+
+        description = new StringDescription();
+        withRenderingBudget(RenderingBudget.of(2, 1, 100), contains(is(-1))).describeMismatch(List.range(0, 10), description);
+        assertThat(description.toString(),
+                is("Expected at least one element matching `is <-1>' but found <List(0, 1, ...7 more..., 9)>"));
+
+        description = new StringDescription();
+        withRenderingBudget(RenderingBudget.of(0, 0, 100), isEmpty()).describeMismatch(Vector.range(0, 10), description);
+        assertThat(description.toString(), is("Expected an empty value but found <[...10 more...]>"));
+
+        description = new StringDescription();
+        withRenderingBudget(RenderingBudget.of(1, 0, 4), containsInAnyOrder("foo", "bar")).describeTo(description);
+        assertThat(description.toString(), is("Expected a Traversable containing all of [\"foo...,...1 more...]"));
+
+        RenderingBudget previous = RenderingBudget.getDefault();
+        try {
+            RenderingBudget.setDefault(RenderingBudget.of(1, 1, 100));
+            description = new StringDescription();
+            startsWith(1, 2, 3).describeTo(description);
+            assertThat(description.toString(), is("Expected a Seq to start with [<1>,...1 more...,<3>]"));
+
+            description = new StringDescription();
+            withRenderingBudget(RenderingBudget.unlimited(), startsWith(1, 2, 3)).describeTo(description);
+            assertThat(description.toString(), is("Expected a Seq to start with [<1>,<2>,<3>]"));
+        } finally {
+            RenderingBudget.setDefault(previous);
+        }
+    }
+
+    @Test
+    public void testRenderingBudgetStopsRenderingLongValues() {
+        AtomicInteger rendered = new AtomicInteger();
+        Object[] values = new Object[100_000];
+        Arrays.fill(values, new Object() {
+            @Override
+            public String toString() {
+                rendered.incrementAndGet();
+                return "value";
+            }
+        });
+        Description description = new StringDescription();
+        RenderingBudget.of(10, 0, 20).appendValue(description, values);
+        assertThat(description.toString(), is("[<value>, <value>, <..."));
+        assertThat(rendered.get(), is(3));
+
+        description = new StringDescription();
+        RenderingBudget.of(10, 0, 5).appendValue(description, String.join("", Collections.nCopies(1_000_000, "\t")));
+        assertThat(description.toString(), is("\"\\t\\t..."));
+
+        rendered.set(0);
+        description = new StringDescription();
+        RenderingBudget.of(10, 0, 40).appendValue(description, Option.of(Vector.of(values)));
+        assertThat(description.toString(), is("<Some(Vector(value, value, value, value,..."));
+        assertThat(rendered.get(), is(4));
+
+        description = new StringDescription();
+        RenderingBudget.of(2, 1, 1000).appendValue(description,
+                Try.success(Tuple.of(List.range(0, 1_000_000), Either.left(HashMap.of(1, Lazy.of(() -> "a"))))));
+        assertThat(description.toString(),
+                is("<Success((List(0, 1, ...999997 more..., 999999), Left(HashMap((1, Lazy(?))))))>"));
+
+        description = new StringDescription();
+        RenderingBudget.of(10, 0, 1000).appendString(description, List.of(Option.none(), Stream.of(1, 2), CharSeq.of("ab")));
+        assertThat(description.toString(), is("List(None, Stream(1, ?), ab)"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeRenderingBudget() {
+        RenderingBudget.of(-1, 0, 0);
+    }
+
     @Test
     public void testIsSorted() {
         assertThat(List.of(1, 2, 3), isSorted());
+        assertThat(List.of(1, 1, 2), isSorted());
+        assertThat(List.empty(), isSorted());
         assertThat(List.of(2, 1, 4), not(isSorted()));
+        assertThat(Stream.from(2).take(5), isSorted());
 
         Description description = new StringDescription();
         isSorted().describeMismatch(List.of(2, 1, 3), description);
         assertThat(description.toString(),
-                is("Expected a Seq to be sorted but it was not"));
+                is("Expected a Seq to be sorted but found <2> at index 0 followed by <1> at index 1"));
+
+        description = new StringDescription();
+        isSorted().describeMismatch(Vector.of(1, 2, 3, 5, 4), description);
+        assertThat(description.toString(),
+                is("Expected a Seq to be sorted but found <5> at index 3 followed by <4> at index 4"));
+    }
+
+    @Test
+    public void testIsSortedWithComparator() {
+        assertThat(List.of("a", "B", "c"), isSorted(String.CASE_INSENSITIVE_ORDER));
+        assertThat(List.of("a", "B", "c"), not(isSorted()));
+        assertThat(List.of("bazz", "foo", "bar"), not(isSortedBy(String::length)));
+        assertThat(List.of("foo", "bar", "bazz"), isSortedBy(String::length));
+
+        Description description = new StringDescription();
+        isSortedBy(String::length).describeMismatch(List.of("bazz", "foo"), description);
+        assertThat(description.toString(),
+                is("Expected a Seq to be sorted but found \"bazz\" at index 0 followed by \"foo\" at index 1"));
+    }
+
+    @Test
+    public void testIsStrictlySorted() {
+        assertThat(List.of(1, 2, 3), isStrictlySorted());
+        assertThat(List.of(1, 1, 2), not(isStrictlySorted()));
+        assertThat(List.of("a", "A"), not(isStrictlySorted(String.CASE_INSENSITIVE_ORDER)));
+
+        Description description = new StringDescription();
+        isStrictlySorted().describeMismatch(List.of(1, 2, 2), description);
+        assertThat(description.toString(),
+                is("Expected a Seq to be strictly sorted but found <2> at index 1 followed by <2> at index 2"));
     }
 
     @Test
     public void testIsReverseSorted() {
         assertThat(List.of(3, 2, 1), isReverseSorted());
+        assertThat(List.of(3, 3, 1), isReverseSorted());
         assertThat(List.of(2, 1, 4), not(isReverseSorted()));
+        assertThat(List.of("c", "B", "a"), isReverseSorted(String.CASE_INSENSITIVE_ORDER));
+        assertThat(List.of(3, 2, 1), isStrictlyReverseSorted());
+        assertThat(List.of(3, 3, 1), not(isStrictlyReverseSorted()));
+        assertThat(List.of("c", "B", "a"), isStrictlyReverseSorted(String.CASE_INSENSITIVE_ORDER));
+        assertThat(List.of("b", "B", "a"), not(isStrictlyReverseSorted(String.CASE_INSENSITIVE_ORDER)));
 
         Description description = new StringDescription();
         isReverseSorted().describeMismatch(List.of(2, 1, 3), description);
         assertThat(description.toString(),
-                is("Expected a Seq to be reverse sorted but it was not"));
+                is("Expected a Seq to be reverse sorted but found <1> at index 1 followed by <3> at index 2"));
     }
 
     @Test
@@ -275,6 +683,64 @@ public class VavrMatchersTest {
                 is("Expected a Seq to start with [<1>,<2>] but found a Seq starting with [<2>,<1>]"));
     }
 
+    @Test
+    public void testIsSeqEqualTo() {
+        assertThat(List.of(1, 2, 3), isSeqEqualTo(Vector.of(1, 2, 3)));
+        assertThat(Stream.of(1, 2), isSeqEqualTo(List.of(1, 2)));
+        assertThat(List.empty(), isSeqEqualTo(List.empty()));
+        assertThat(CharSeq.of("abc"), isSeqEqualTo(CharSeq.of("abc")));
+        assertThat(CharSeq.of("abc"), not(isSeqEqualTo(CharSeq.of("abd"))));
+        assertThat(List.of(1, 2, 3), not(isSeqEqualTo(List.of(1, 2))));
+        assertThat(Stream.of(1, 2), not(isSeqEqualTo(List.of(1, 2, 3))));
+        assertThat(List.of(1, null), isSeqEqualTo(List.of(1, null)));
+
+        Description description = new StringDescription();
+        isSeqEqualTo(List.of(1, 2, 3, 4, 5, 6)).describeMismatch(List.of(0, 1, 2, 30, 4, 6), description);
+        assertThat(description.toString(), is("Expected a Seq equal to [<1>,<2>,<3>,<4>,<5>,<6>] but found 3 differences "
+                + "[at index 0: unexpected [<0>],at index 3: expected [<3>] but found [<30>],at index 5: missing [<5>]]"));
+
+        description = new StringDescription();
+        withRenderingBudget(RenderingBudget.of(1, 0, 100), isSeqEqualTo(List.range(0, 100_000)))
+                .describeMismatch(List.range(0, 100_000).update(50_000, -1).append(100_000), description);
+        assertThat(description.toString(), is("Expected a Seq equal to [<0>,...99999 more...] but found 2 differences "
+                + "[at index 50000: expected [<50000>] but found [<-1>],...1 more...]"));
+
+        description = new StringDescription();
+        isSeqEqualTo(List.range(0, 3_000)).describeMismatch(List.range(0, 3_000).map(i -> i % 2 == 0 ? i : -i), description);
+        assertThat(description.toString(),
+                Matchers.endsWith(" but found more than " + SeqDiff.MAX_EDITS + " differences, the first one at index 1"));
+    }
+
+    @Test
+    public void testSeqDiffIsShortest() {
+        java.util.Random random = new java.util.Random(1);
+        for (int sample = 0; sample < 500; sample++) {
+            Object[] expected = List.fill(random.nextInt(20), () -> (Object) random.nextInt(4)).toJavaArray();
+            Object[] actual = List.fill(random.nextInt(20), () -> (Object) random.nextInt(4)).toJavaArray();
+            Vector<SeqDiff.Run> runs = SeqDiff.diff(expected, actual).get();
+
+            // applying the runs to the expected elements gives the actual ones
+            java.util.List<Object> patched = new java.util.ArrayList<>();
+            int next = 0, edits = 0;
+            for (SeqDiff.Run run : runs) {
+                assertThat(run.actualFrom - patched.size(), is(run.expectedFrom - next));
+                patched.addAll(java.util.Arrays.asList(expected).subList(next, run.expectedFrom));
+                patched.addAll(java.util.Arrays.asList(actual).subList(run.actualFrom, run.actualTo));
+                next = run.expectedTo;
+                edits += run.expectedTo - run.expectedFrom + run.actualTo - run.actualFrom;
+            }
+            patched.addAll(java.util.Arrays.asList(expected).subList(next, expected.length));
+            assertThat(patched, is(java.util.Arrays.asList(actual)));
+
+            // with as few edits as possible
+            int[][] lcs = new int[expected.length + 1][actual.length + 1];
+            for (int i = expected.length - 1; i >= 0; i--)
+                for (int j = actual.length - 1; j >= 0; j--)
+                    lcs[i][j] = expected[i].equals(actual[j]) ? lcs[i + 1][j + 1] + 1 : Math.max(lcs[i + 1][j], lcs[i][j + 1]);
+            assertThat(edits, is(expected.length + actual.length - 2 * lcs[0][0]));
+        }
+    }
+
     @Test
     public void testEndsWith() {
         assertThat(List.of(1, 2, 3), endsWith(List.of(2, 3)));
@@ -290,12 +756,27 @@ public class VavrMatchersTest {
     @Test
     public void testIsUnique() {
         assertThat(List.of(1, 2, 3, 4), isUnique());
+        assertThat(List.empty(), isUnique());
         assertThat(List.of(1, 2, 3, 3), not(isUnique()));
+        assertThat(Stream.of(1).appendAll(Stream.from(1)), not(isUnique()));
 
         Description description = new StringDescription();
-        isUnique().describeMismatch(List.of(1, 2, 1, 3, 3, 4), description);
+        isUnique().describeMismatch(List.of(1, 2, 1, 3, 3, 4, 1), description);
         assertThat(description.toString(),
-                is("Expected a Seq to have unique elements but found the following duplicate elements [<1>,<3>]"));
+                is("Expected a Seq to have unique elements but found the following duplicate elements "
+                        + "[<1> (3 times, at indices 0 and 2),<3> (2 times, at indices 3 and 4)]"));
+    }
+
+    @Test
+    public void testIsUniqueBy() {
+        assertThat(List.of("foo", "bazz"), isUniqueBy(String::length));
+        assertThat(List.of("foo", "bar"), not(isUniqueBy(String::length)));
+
+        Description description = new StringDescription();
+        isUniqueBy(String::length).describeMismatch(List.of("foo", "bazz", "bar"), description);
+        assertThat(description.toString(),
+                is("Expected a Seq to have unique keys but found the following duplicate keys "
+                        + "[<3> (2 times, at indices 0 and 2)]"));
     }
 
     @Test
@@ -304,6 +785,7 @@ public class VavrMatchersTest {
         assertThat(HashSet.of(1, 2, 3, 4), containsSubSet(1, 2, 3));
         assertThat(HashSet.of(1, 2, 3, 4), containsSubSet(List.of(1, 2, 3, 4)));
         assertThat(HashSet.of(1, 2, 3, 4), not(containsSubSet(1, 2, 3, 4, 5)));
+        assertThat(HashSet.of(1, 2), containsSubSet(List.of(1, 1, 2)));
 
         Description description = new StringDescription();
         containsSubSet(1, 2, 3).describeMismatch(HashSet.of(1, 2), description);
@@ -318,6 +800,11 @@ public class VavrMatchersTest {
         assertThat(HashSet.of(2, 3), isSubSetOf(List.of(1, 2, 3, 4)));
         assertThat(HashSet.of(2, 3), not(isSubSetOf(1, 2)));
 
+        Matcher<Set<Integer>> reused = isSubSetOf(Vector.range(0, 1_000));
+        for (int i = 0; i < 1_000; i += 10)
+            assertThat(HashSet.range(i, i + 10), reused);
+        assertThat(TreeSet.of(999, 1_000), not(reused));
+
         Description description = new StringDescription();
         isSubSetOf(1, 2, 3).describeMismatch(HashSet.of(1, 2, 3, 4), description);
         assertThat(description.toString(),
@@ -341,6 +828,8 @@ public class VavrMatchersTest {
         assertThat(HashMap.of(1, 2, 3, 4), containsValues(List.of(2, 4)));
         assertThat(HashMap.of(1, 2, 3, 4), containsValues(2, 4));
         assertThat(HashMap.of(1, 2, 3, 4), not(containsValues(2, 3)));
+        assertThat(HashMap.of(1, 2, 3, 2), containsValues(2, 2));
+        assertThat(HashMap.of(1, 2, 3, 4), not(containsValues(2, 2)));
 
         Description description = new StringDescription();
         containsValues(1, 2).describeMismatch(HashMap.of(1, 2, 3, 4), description);
@@ -360,6 +849,20 @@ public class VavrMatchersTest {
                 is("Expected a Map containing an entry <1>=<3> but found value <2>"));
     }
 
+    @Test
+    public void testHasEntries() {
+        assertThat(HashMap.of(1, 2, 3, 4, 5, 6), hasEntries(HashMap.of(1, is(2), 3, greaterThan(3))));
+        assertThat(HashMap.of(1, 2, 3, 4), not(hasEntries(HashMap.of(1, is(3)))));
+        assertThat(HashMap.of(1, 2, 3, 4), not(hasEntries(HashMap.of(5, is(2)))));
+        assertThat(HashMap.of(1, 2), hasEntries(HashMap.empty()));
+
+        Description description = new StringDescription();
+        hasEntries(LinkedHashMap.of(1, is(2), 3, lessThan(4), 5, is(6))).describeMismatch(HashMap.of(1, 2, 3, 4), description);
+        assertThat(description.toString(),
+                is("Expected a Map containing entries matching [<1>=is <2>,<3>=a value less than <4>,<5>=is <6>] "
+                        + "but [<3> <4> was equal to <4>, <5> is missing]"));
+    }
+
     @Test
     public void testIsCancelled() {
         Future<Integer> f = Future.of(() -> {
@@ -398,6 +901,120 @@ public class VavrMatchersTest {
                 is("Expected a completed Future but it was not"));
     }
 
+    @Test
+    public void testIsCompletedWithin() {
+        Future<Integer> slow = Future.of(() -> {
+            Thread.sleep(50);
+            return 1;
+        });
+        assertThat(slow, isCompletedWithin(Duration.ofSeconds(10)));
+        assertThat(slow, isCompletedWithin(Duration.ofSeconds(10), is(1)));
+        assertThat(Future.failed(new IllegalStateException()), isCompletedWithin(Duration.ofSeconds(10)));
+        assertThat(Promise.<Integer>make().future(), not(isCompletedWithin(Duration.ofMillis(10))));
+        assertThat(Future.successful(2), not(isCompletedWithin(Duration.ofSeconds(10), is(1))));
+
+        Description description = new StringDescription();
+        isCompletedWithin(Duration.ofMillis(20)).describeMismatch(Promise.make().future(), description);
+        assertThat(description.toString(),
+                matchesPattern("Expected a Future to complete within 20 ms but it was still pending after \\d+ ms"));
+
+        description = new StringDescription();
+        isCompletedWithin(Duration.ofSeconds(1), is(1)).describeMismatch(Future.successful(2), description);
+        assertThat(description.toString(),
+                is("Expected a Future to complete with a value matching is <1> within 1000 ms but was <2>"));
+
+        description = new StringDescription();
+        isCompletedWithin(Duration.ofSeconds(1), is(1)).describeMismatch(Future.failed(new Exception()), description);
+        assertThat(description.toString(),
+                is("Expected a Future to complete with a value matching is <1> within 1000 ms "
+                        + "but it completed with <Failure(java.lang.Exception)>"));
+    }
+
+    @Test
+    public void testAllCompletedWithin() {
+        List<Future<Integer>> futures = List.range(0, 100).map(i -> Future.of(() -> {
+            Thread.sleep(i % 10);
+            return i;
+        }));
+        assertThat(futures, allCompletedWithin(Duration.ofSeconds(10), lessThan(100)));
+        assertThat(futures, allSucceedWithin(Duration.ofSeconds(10)));
+        assertThat(List.<Future<Integer>>empty(), allSucceedWithin(Duration.ofSeconds(10)));
+        assertThat(futures, not(allCompletedWithin(Duration.ofSeconds(10), lessThan(50))));
+        assertThat(List.of(Future.successful(1), Promise.<Integer>make().future()), not(allSucceedWithin(Duration.ofMillis(10))));
+
+        Description description = new StringDescription();
+        allCompletedWithin(Duration.ofSeconds(1), lessThan(2)).describeMismatch(List.of(Future.successful(1),
+                Future.failed(new IllegalStateException("boom")), Future.successful(3)), description);
+        assertThat(description.toString(), is("Expected all Futures to complete with values matching "
+                + "a value less than <2> within 1000 ms but failed: [1: <Failure(java.lang.IllegalStateException: boom)>], "
+                + "not matching: [2: <3> was greater than <2>]"));
+
+        description = new StringDescription();
+        allSucceedWithin(Duration.ofMillis(20)).describeMismatch(List.of(Future.successful(1), Promise.make().future(),
+                Promise.make().future()), description);
+        assertThat(description.toString(),
+                matchesPattern("Expected all Futures to succeed within 20 ms but still pending after \\d+ ms: \\[1, 2]"));
+    }
+
+    @Test
+    public void testAllSucceedWithinStopsAtFirstFailure() {
+        List<Future<Integer>> futures = List.of(Promise.<Integer>make().future(), Future.failed(new IllegalStateException()));
+        long start = System.nanoTime();
+        assertThat(futures, not(allSucceedWithin(Duration.ofMinutes(5))));
+        assertThat(Duration.ofNanos(System.nanoTime() - start), lessThan(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    public void testAnySucceedsWithin() {
+        assertThat(List.of(Promise.<Integer>make().future(), Future.successful(1)), anySucceedsWithin(Duration.ofSeconds(10)));
+        assertThat(List.of(Future.failed(new IllegalStateException()), Future.successful(1)), anySucceedsWithin(Duration.ofSeconds(10)));
+        assertThat(List.<Future<Integer>>empty(), not(anySucceedsWithin(Duration.ofSeconds(10))));
+
+        Description description = new StringDescription();
+        anySucceedsWithin(Duration.ofMillis(20)).describeMismatch(List.of(Future.failed(new Exception()),
+                Promise.make().future()), description);
+        assertThat(description.toString(), matchesPattern("Expected any Future to succeed within 20 ms but still pending after \\d+ ms: "
+                + "\\[1], failed: \\[0: <Failure\\(java.lang.Exception\\)>]"));
+
+        description = new StringDescription();
+        anySucceedsWithin(Duration.ofMillis(20)).describeMismatch(List.empty(), description);
+        assertThat(description.toString(), is("Expected any Future to succeed within 20 ms but there were none"));
+    }
+
+    @Test
+    public void testSucceedsWithin() {
+        assertThat(Future.of(() -> 1), succeedsWithin(Duration.ofSeconds(10)));
+        assertThat(Future.failed(new IllegalStateException()), not(succeedsWithin(Duration.ofSeconds(10))));
+        assertThat(Promise.make().future(), not(succeedsWithin(Duration.ofMillis(10))));
+
+        Description description = new StringDescription();
+        succeedsWithin(Duration.ofSeconds(1)).describeMismatch(Future.failed(new Exception()), description);
+        assertThat(description.toString(),
+                is("Expected a Future to succeed within 1000 ms but it completed with <Failure(java.lang.Exception)>"));
+    }
+
+    @Test
+    public void testFailsWithin() {
+        assertThat(Future.of(() -> {
+            throw new IllegalStateException();
+        }), failsWithin(Duration.ofSeconds(10), IllegalStateException.class));
+        assertThat(Future.failed(new Exception()), not(failsWithin(Duration.ofSeconds(10), IllegalStateException.class)));
+        assertThat(Future.successful(1), not(failsWithin(Duration.ofSeconds(10), IllegalStateException.class)));
+        assertThat(Promise.make().future(), not(failsWithin(Duration.ofMillis(10), IllegalStateException.class)));
+
+        Description description = new StringDescription();
+        failsWithin(Duration.ofSeconds(1), IllegalStateException.class).describeMismatch(Future.failed(new Exception()), description);
+        assertThat(description.toString(),
+                is("Expected a Future to fail with java.lang.IllegalStateException within 1000 ms "
+                        + "but it completed with <Failure(java.lang.Exception)>"));
+
+        description = new StringDescription();
+        failsWithin(Duration.ofSeconds(1), IllegalStateException.class).describeMismatch(Future.successful(1), description);
+        assertThat(description.toString(),
+                is("Expected a Future to fail with java.lang.IllegalStateException within 1000 ms "
+                        + "but it completed with <Success(1)>"));
+    }
+
     @Test
     public void testIsEvaluated() {
         Lazy<Integer> l = Lazy.of(() -> 1);
@@ -420,6 +1037,324 @@ public class VavrMatchersTest {
                 is("Expected an evaluated Lazy but it was not"));
     }
 
+    @Test
+    public void testCompletesWithin() {
+        // the budgets are orders of magnitude away from the latencies, whatever the load of the machine
+        LatencySampling sampling = LatencySampling.of(10, 100);
+        assertThat(Function0.of(() -> 1), completesWithin(Duration.ofMinutes(1), sampling));
+        assertThat(CheckedFunction0.of(() -> 1), completesWithin(Duration.ofMinutes(1), sampling));
+        assertThat(Lazy.of(() -> 1), completesWithin(Duration.ofMinutes(1)));
+        assertThat(CheckedFunction0.of(() -> {
+            Thread.sleep(10);
+            return 1;
+        }).unchecked(), not(completesWithin(Duration.ofNanos(1_000), LatencySampling.of(0, 3))));
+        assertThat("foo", not(completesWithin(Duration.ofSeconds(1))));
+
+        Description description = new StringDescription();
+        completesWithin(Duration.ofNanos(1_000), LatencySampling.of(0, 3)).describeMismatch(CheckedFunction0.of(() -> {
+            Thread.sleep(10);
+            return 1;
+        }), description);
+        assertThat(description.toString(), matchesPattern("Expected every run to complete within 1.0 us but the slowest "
+                + "took [\\d.]+ m?s \\(p50=.+, p90=.+, p99=.+, p99.9=.+, max=[\\d.]+ m?s over 3 samples\\)"));
+
+        description = new StringDescription();
+        completesWithin(Duration.ofSeconds(1)).describeMismatch(CheckedFunction0.of(() -> {
+            throw new IllegalStateException("boom");
+        }), description);
+        assertThat(description.toString(), is("Expected every run to complete within 1.00 s "
+                + "but it threw <java.lang.IllegalStateException: boom>"));
+
+        description = new StringDescription();
+        completesWithin(Duration.ofSeconds(1)).describeMismatch("foo", description);
+        assertThat(description.toString(), is("Expected every run to complete within 1.00 s "
+                + "but it was not a Function0, a CheckedFunction0 or a Lazy"));
+    }
+
+    @Test
+    public void testHasLatency() {
+        LatencySampling sampling = LatencySampling.of(10, 100);
+        AtomicInteger runs = new AtomicInteger();
+        assertThat(Function0.of(runs::incrementAndGet),
+                hasLatency(percentile(99), lessThan(Duration.ofMinutes(1)), sampling));
+        assertThat(runs.get(), is(110));
+        assertThat(Function0.of(() -> 1), not(hasLatency(percentile(50), greaterThan(Duration.ofMinutes(1)), sampling)));
+
+        Lazy<Integer> lazy = Lazy.of(() -> 1);
+        assertThat(lazy, hasLatency(percentile(99.9), lessThan(Duration.ofMinutes(1))));
+        assertThat(lazy, isEvaluated());
+
+        Description description = new StringDescription();
+        hasLatency(percentile(50), greaterThan(Duration.ofMinutes(1))).describeMismatch(Lazy.of(() -> 1), description);
+        assertThat(description.toString(), matchesPattern("Expected the 50th percentile latency to be a value greater than <PT1M> "
+                + "but <PT.+S> was less than <PT1M> \\(p50=.+, max=.+ over 1 sample\\)"));
+    }
+
+    @Test
+    public void testAllocatesAtMost() {
+        assumeTrue(canMeasureAllocations());
+        LatencySampling sampling = LatencySampling.of(100, 1_000);
+        assertThat(Function0.of(() -> 1), allocatesNothing(sampling));
+        assertThat((Runnable) () -> { }, allocatesNothing(sampling));
+        assertThat(CheckedFunction0.of(() -> new byte[1024]), allocatesAtMost(2048, sampling));
+        assertThat(Function0.of(() -> new byte[1024]), not(allocatesAtMost(512, sampling)));
+        assertThat(Function0.of(() -> new byte[1024]), not(allocatesNothing(sampling)));
+
+        Description description = new StringDescription();
+        allocatesNothing(LatencySampling.of(10, 100)).describeMismatch(Function0.of(() -> new byte[1024]), description);
+        java.util.regex.Matcher allocated = Pattern.compile("Expected no allocation but it allocated ([\\d.]+) bytes per run "
+                + "\\(\\d+ bytes over 100 samples after 10 warmups\\)").matcher(description.toString());
+        assertThat(description.toString(), allocated.matches(), is(true));
+        // the array itself, whatever the size of its header and the rounding of the allocation
+        assertThat(Double.parseDouble(allocated.group(1)), both(greaterThanOrEqualTo(1024.0)).and(lessThan(2048.0)));
+    }
+
+    @Test
+    public void testAllocatesAtMostMismatches() {
+        Description description = new StringDescription();
+        allocatesAtMost(16).describeMismatch("foo", description);
+        assertThat(description.toString(), is("Expected at most 16 bytes allocated per run "
+                + "but it was not a Function0, a CheckedFunction0 or a Runnable"));
+
+        description = new StringDescription();
+        allocatesNothing().describeMismatch(CheckedFunction0.of(() -> {
+            throw new IllegalStateException("boom");
+        }), description);
+        assertThat(description.toString(), is(canMeasureAllocations()
+                ? "Expected no allocation but it threw <java.lang.IllegalStateException: boom>"
+                : "Expected no allocation but allocations cannot be measured on this JVM"));
+    }
+
+    @Test
+    public void testHasRetainedSizeAtMost() {
+        ObjectGraph graph = ObjectGraph.of(List.of(1, 2, 3));
+        assertThat(List.of(1, 2, 3), hasRetainedSizeAtMost(graph.retainedSize()));
+        assertThat(List.of(1, 2, 3), not(hasRetainedSizeAtMost(graph.retainedSize() - 1)));
+        // the element is retained once, along with a node per element and the empty list
+        long node = ObjectGraph.of(List.of(1)).shallowSize();
+        assertThat(List.fill(10_000, "foo"), hasRetainedSizeAtMost(10_001 * node + ObjectGraph.of("foo").retainedSize()));
+        // ranges of Vectors are kept in int[] leaves, other Vectors in Object[] leaves of boxed elements
+        long boxed = ObjectGraph.of(Vector.ofAll(List.range(0, 10_000))).retainedSize();
+        assertThat(Vector.range(0, 10_000), hasRetainedSizeAtMost(boxed / 2));
+        assertThat(Vector.ofAll(List.range(0, 10_000)), not(hasRetainedSizeAtMost(boxed / 2)));
+
+        Description description = new StringDescription();
+        hasRetainedSizeAtMost(graph.retainedSize() - 1).describeMismatch(List.of(1, 2, 3), description);
+        assertThat(description.toString(), is("Expected a retained size of at most " + (graph.retainedSize() - 1)
+                + " bytes but it retained " + graph.retainedSize() + " bytes in 7 objects, " + graph.shallowSize()
+                + " bytes of which for the Traversable itself"));
+    }
+
+    @Test
+    public void testSharesStructureWith() {
+        List<Integer> list = List.range(0, 100);
+        assertThat(list.prepend(-1), sharesStructureWith(list, 0.9));
+        assertThat(list.tail(), sharesStructureWith(list, 1));
+        assertThat(List.ofAll(list.toJavaList()), not(sharesStructureWith(list, 0.1)));
+
+        Vector<Integer> vector = Vector.range(0, 1_000);
+        assertThat(vector.update(500, -1), sharesStructureWith(vector, 0.8));
+        assertThat(Vector.ofAll(vector.toJavaList()), not(sharesStructureWith(vector, 0.1)));
+
+        HashMap<Integer, Integer> map = HashMap.ofEntries(List.range(0, 1_000).map(i -> Tuple.of(i, i)));
+        assertThat(map.put(1_000, 1_000), sharesStructureWith(map, 0.8));
+
+        // a copy only shares the empty list
+        List<Integer> copy = List.ofAll(list.toJavaList());
+        ObjectGraph graph = ObjectGraph.of(copy);
+        long shared = graph.sharedStructureSize(ObjectGraph.of(list));
+        assertThat(shared, is(ObjectGraph.of(List.empty()).shallowSize()));
+        Description description = new StringDescription();
+        sharesStructureWith(list, 0.5).describeMismatch(copy, description);
+        assertThat(description.toString(), is(String.format(Locale.ROOT, "Expected a Traversable sharing at least 50.0%% "
+                        + "of its structure with the given one but it shared %.1f%% of it (%d of %d bytes)",
+                100.0 * shared / graph.structureSize(), shared, graph.structureSize())));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSharesStructureWithRatioOutOfRange() {
+        sharesStructureWith(List.empty(), 2);
+    }
+
+    @Test
+    public void testPercentile() {
+        assertThat(percentile(1).toString(), is("1st percentile"));
+        assertThat(percentile(2).toString(), is("2nd percentile"));
+        assertThat(percentile(3).toString(), is("3rd percentile"));
+        assertThat(percentile(11).toString(), is("11th percentile"));
+        assertThat(percentile(99).toString(), is("99th percentile"));
+        assertThat(percentile(99.9).toString(), is("99.9th percentile"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPercentileOutOfRange() {
+        percentile(101);
+    }
+
+    @Test
+    public void testForcedAtMost() {
+        LazinessProbe<Stream<Integer>> stream = LazinessProbe.stream(Stream.from(1), 5);
+        assertThat(stream, notEvaluated());
+        assertThat(stream.get().filter(i -> i % 2 == 0).take(3).toList(), is(List.of(2, 4, 6)));
+        assertThat(stream, forcedAtMost(6));
+        assertThat(stream, not(forcedAtMost(5)));
+
+        LazinessProbe<Iterator<Integer>> iterator = LazinessProbe.iterator(Iterator.range(0, 100));
+        assertThat(iterator.get().take(10).sum().intValue(), is(45));
+        assertThat(iterator, forcedAtMost(10));
+
+        Description description = new StringDescription();
+        forcedAtMost(5).describeMismatch(stream, description);
+        assertThat(description.toString(), Matchers.startsWith(
+                "Expected at most 5 elements or evaluations to be forced but 6 elements were forced, "
+                        + "#6 at me.grison.vavr.matchers.VavrMatchersTest.testForcedAtMost(VavrMatchersTest.java:"));
+
+        LazinessProbe<Iterator<Integer>> large = LazinessProbe.iterator(Iterator.range(0, 20_000), 10_000);
+        assertThat(large.get().sum().intValue(), is(199_990_000));
+        description = new StringDescription();
+        forcedAtMost(10_000).describeMismatch(large, description);
+        assertThat(description.toString(), Matchers.startsWith(
+                "Expected at most 10000 elements or evaluations to be forced but 20000 elements were forced, "
+                        + "#10001 at me.grison.vavr.matchers.VavrMatchersTest.testForcedAtMost(VavrMatchersTest.java:"));
+    }
+
+    @Test
+    public void testEvaluatedExactlyOnce() {
+        LazinessProbe<Lazy<Integer>> lazy = LazinessProbe.lazy(Lazy.of(() -> 1));
+        assertThat(lazy, notEvaluated());
+        assertThat(lazy, not(evaluatedExactlyOnce()));
+        lazy.get().get();
+        lazy.get().get();
+        assertThat(lazy, evaluatedExactlyOnce());
+        assertThat(lazy, not(notEvaluated()));
+
+        LazinessProbe<Function0<Integer>> function = LazinessProbe.function(() -> 1, 1);
+        function.get().apply();
+        assertThat(function, evaluatedExactlyOnce());
+        function.get().apply();
+        assertThat(function, not(evaluatedExactlyOnce()));
+
+        Description description = new StringDescription();
+        evaluatedExactlyOnce().describeMismatch(function, description);
+        assertThat(description.toString(), Matchers.startsWith(
+                "Expected to be evaluated exactly once but 2 evaluations were forced, "
+                        + "#2 at me.grison.vavr.matchers.VavrMatchersTest.testEvaluatedExactlyOnce(VavrMatchersTest.java:"));
+
+        description = new StringDescription();
+        notEvaluated().describeMismatch(function, description);
+        assertThat(description.toString(), is("Expected not to be evaluated but 2 evaluations were forced"));
+
+        description = new StringDescription();
+        evaluatedExactlyOnce().describeMismatch(LazinessProbe.lazy(Lazy.of(() -> 1)), description);
+        assertThat(description.toString(), is("Expected to be evaluated exactly once but 0 evaluations were forced"));
+    }
+
+    @Test
+    public void testAllPrimitivesMatch() {
+        assertThat(List.range(0, 100), allIntsMatch(i -> i < 100));
+        assertThat(List.of(1L, 2L), allLongsMatch(l -> l > 0));
+        assertThat(Vector.of(0.5, 1.5), allDoublesMatch(d -> d < 2));
+        assertThat(List.<Integer>empty(), allIntsMatch(i -> false));
+        assertThat(List.of(1, 50, 3), not(allIntsMatch(i -> i < 50)));
+        assertThat(Array.range(0, 10), allIntsBetween(0, 9));
+        assertThat(Array.range(0, 10), not(allIntsBetween(1, 9)));
+        assertThat(List.of(1L, 5L), not(allLongsBetween(1, 4)));
+        assertThat(List.of(0.1, Double.NaN), not(allDoublesBetween(0, 1)));
+
+        Description description = new StringDescription();
+        allIntsMatch(i -> i < 50).describeMismatch(List.of(1, 50, 3, 60), description);
+        assertThat(description.toString(),
+                is("Expected a Traversable where all elements should match the predicate but found <50> at index 1"));
+
+        description = new StringDescription();
+        allLongsBetween(1, 4).describeMismatch(List.of(1L, 5L), description);
+        assertThat(description.toString(),
+                is("Expected a Traversable where all elements should be between 1 and 4 but found <5L> at index 1"));
+    }
+
+    @Test
+    public void testIsSortedPrimitives() {
+        assertThat(List.range(0, 1000), isSortedInts());
+        assertThat(List.of(1, 1, 2), isSortedInts());
+        assertThat(List.<Integer>empty(), isSortedInts());
+        assertThat(List.of(2, 1), not(isSortedInts()));
+        assertThat(Vector.of(1L, 3L), isSortedLongs());
+        assertThat(Vector.of(3L, 1L), not(isSortedLongs()));
+        assertThat(List.of(-0.0, 0.0, Double.NaN), isSortedDoubles());
+        assertThat(List.of(Double.NaN, 0.0), not(isSortedDoubles()));
+
+        Description description = new StringDescription();
+        isSortedInts().describeMismatch(List.of(1, 3, 2), description);
+        assertThat(description.toString(),
+                is("Expected a Seq to be sorted but found <3> at index 1 followed by <2> at index 2"));
+    }
+
+    @Test
+    public void testPrimitiveAggregates() {
+        assertThat(List.of(Integer.MAX_VALUE, Integer.MAX_VALUE), hasIntSum(sum -> sum == 2L * Integer.MAX_VALUE));
+        assertThat(List.of(1L, 2L), hasLongSum(sum -> sum == 3));
+        assertThat(List.of(0.5, 0.25), hasDoubleSum(sum -> sum == 0.75));
+        assertThat(List.of(3, 1, 2), hasIntMin(min -> min == 1));
+        assertThat(List.of(3, 1, 2), hasIntMax(max -> max == 3));
+        assertThat(List.of(3L, 1L), hasLongMin(min -> min == 1));
+        assertThat(List.of(3L, 1L), hasLongMax(max -> max == 3));
+        assertThat(List.of(-1.5, 2.5), hasDoubleMin(min -> min == -1.5));
+        assertThat(List.of(-1.5, 2.5), hasDoubleMax(max -> max == 2.5));
+        assertThat(List.<Integer>empty(), not(hasIntMin(min -> true)));
+
+        Description description = new StringDescription();
+        hasIntSum(sum -> sum < 5).describeMismatch(List.of(2, 3), description);
+        assertThat(description.toString(), is("Expected a Traversable whose sum matches the predicate but it was <5L>"));
+
+        description = new StringDescription();
+        hasIntMax(max -> max < 3).describeMismatch(List.of(2, 3), description);
+        assertThat(description.toString(), is("Expected a Traversable whose maximum matches the predicate but it was <3>"));
+
+        description = new StringDescription();
+        hasDoubleMin(min -> true).describeMismatch(List.empty(), description);
+        assertThat(description.toString(), is("Expected a Traversable whose minimum matches the predicate but it was empty"));
+    }
+
+    @Test
+    public void testPrimitiveMatchersOnIterators() {
+        assertThat(mismatchAfterMatch(allIntsMatch(i -> i < 10), Iterator.of(1, 2, 30)),
+                is("Expected a Traversable where all elements should match the predicate but found <30> at index 2"));
+        assertThat(mismatchAfterMatch(allDoublesBetween(0, 1), Iterator.of(0.5, 2.0)),
+                is("Expected a Traversable where all elements should be between 0.0 and 1.0 but found <2.0> at index 1"));
+        assertThat(mismatchAfterMatch(hasIntMax(max -> max < 3), Iterator.of(2, 3)),
+                is("Expected a Traversable whose maximum matches the predicate but it was <3>"));
+        assertThat(mismatchAfterMatch(hasIntSum(sum -> sum < 5), Iterator.of(2, 3)),
+                is("Expected a Traversable whose sum matches the predicate but it was <5L>"));
+        assertThat(mismatchAfterMatch(hasDoubleMin(min -> true), Iterator.<Double>empty()),
+                is("Expected a Traversable whose minimum matches the predicate but it was empty"));
+    }
+
+    /**
+     * Matches then describes the mismatch, as {@code assertThat} does, so that an Iterator is only consumed once.
+     */
+    private static <T> String mismatchAfterMatch(Matcher<? super T> matcher, T actual) {
+        assertThat(matcher.matches(actual), is(false));
+        Description description = new StringDescription();
+        matcher.describeMismatch(actual, description);
+        return description.toString();
+    }
+
+    @Test
+    public void testLengthAndArityPredicates() {
+        assertThat(List.of(1, 2, 3), hasLength(l -> l % 3 == 0));
+        assertThat(List.of(1, 2), not(hasLength(l -> l % 3 == 0)));
+        assertThat(Tuple.of(1, 2), hasArity(a -> a == 2));
+        assertThat(Tuple.of(1, 2), not(hasArity(a -> a > 2)));
+
+        Description description = new StringDescription();
+        hasLength(l -> l > 2).describeMismatch(List.of(1, 2), description);
+        assertThat(description.toString(), is("Expected Traversable to have a length matching the predicate but has length <2>"));
+
+        description = new StringDescription();
+        hasArity(a -> a > 2).describeMismatch(Tuple.of(1, 2), description);
+        assertThat(description.toString(), is("Expected a Tuple to have an arity matching the predicate but has arity <2>"));
+    }
+
     @Test
     public void testTupleArity() {
         assertThat(Tuple.of(1), hasArity(1));
@@ -493,6 +1428,224 @@ public class VavrMatchersTest {
         assertThat(ages, allMatch(lessThan(50)));
     }
 
+    @Test
+    public void testMatcherMetrics() {
+        MatcherMetrics.Summary summary = MatcherMetrics.summary();
+        java.util.List<MatcherMetrics.Evaluation> evaluations = new java.util.concurrent.CopyOnWriteArrayList<>();
+        MatcherMetrics.enable(summary.andThen(evaluations::add));
+        try {
+            assertThat(List.range(0, 10_000), containsInAnyOrder(List.range(0, 10_000).reverse()));
+            assertThat(List.of(1, 2), isSorted());
+            assertThat(Stream.from(1), not(hasLengthAtMost(2)));
+            Description description = new StringDescription();
+            isSorted().describeMismatch(List.of(2, 1), description);
+        } finally {
+            MatcherMetrics.disable();
+        }
+        assertThat(summary.top(1).map(MatcherMetrics.Cost::matcher), is(List.of("containsInAnyOrder")));
+        assertThat(summary.top(10).map(MatcherMetrics.Cost::matcher),
+                containsInAnyOrder("containsInAnyOrder", "isSorted", "hasLengthAtMost"));
+        assertThat(summary.top(10).find(cost -> cost.matcher().equals("isSorted")).get().evaluations(), is(2L));
+
+        assertThat(evaluations.get(0).inputSize(), is(10_000));
+        assertThat(evaluations.get(0).inputType(), is(typeCompatibleWith(List.class)));
+        assertThat(evaluations.get(0).matched(), is(true));
+        assertThat(evaluations.get(2).inputSize(), is(-1));
+        assertThat(evaluations.get(2).matched(), is(false));
+        assertThat(evaluations.get(3).phase(), is(MatcherMetrics.Phase.DESCRIBE_MISMATCH));
+
+        assertThat(List.of(1), isSorted());
+        assertThat(summary.top(10).find(cost -> cost.matcher().equals("isSorted")).get().evaluations(), is(2L));
+    }
+
+    @Test
+    public void testTreeDepthAndBranching() {
+        Tree<Integer> tree = Tree.of(1, Tree.of(2, Tree.of(4)), Tree.of(3, Tree.of(5), Tree.of(6), Tree.of(7)));
+        assertThat(tree, hasDepth(3));
+        assertThat(Tree.empty(), hasDepth(0));
+        assertThat(Tree.of(1), hasDepth(1));
+        assertThat(tree, not(hasDepth(2)));
+        assertThat(tree, not(hasDepth(4)));
+        assertThat(tree, hasMaxBranching(3));
+        assertThat(tree, not(hasMaxBranching(2)));
+
+        Description description = new StringDescription();
+        hasDepth(2).describeMismatch(tree, description);
+        assertThat(description.toString(), is("Expected a Tree of depth <2> but found a node at depth <3> at $[0][0]"));
+
+        description = new StringDescription();
+        hasDepth(4).describeMismatch(tree, description);
+        assertThat(description.toString(), is("Expected a Tree of depth <4> but has depth <3>"));
+
+        description = new StringDescription();
+        hasMaxBranching(2).describeMismatch(tree, description);
+        assertThat(description.toString(), is("Expected a Tree whose nodes have at most <2> children but the node at $[1] has <3>"));
+    }
+
+    @Test
+    public void testTreeNodes() {
+        Tree<Integer> tree = Tree.of(1, Tree.of(2, Tree.of(4)), Tree.of(3, Tree.of(5)));
+        assertThat(tree, containsNode(is(5)));
+        assertThat(tree, not(containsNode(is(6))));
+        assertThat(Tree.<Integer>empty(), not(containsNode(is(6))));
+        assertThat(tree, allNodesMatch(lessThan(6)));
+        assertThat(tree, not(allNodesMatch(lessThan(5))));
+
+        Description description = new StringDescription();
+        containsNode(is(6)).describeMismatch(tree, description);
+        assertThat(description.toString(), is("Expected a Tree containing a node matching is <6> but found none"));
+
+        description = new StringDescription();
+        allNodesMatch(lessThan(4)).describeMismatch(tree, description);
+        assertThat(description.toString(),
+                is("Expected a Tree where all nodes should match a value less than <4> but the node at $[0][0] did not: "
+                        + "<4> was equal to <4>"));
+    }
+
+    @Test
+    public void testTreePaths() {
+        Tree<String> tree = Tree.of("/", Tree.of("usr", Tree.of("bin")), Tree.of("usr", Tree.of("lib", Tree.of("x"))));
+        assertThat(tree, hasPathTo(is("/")));
+        assertThat(tree, hasPathTo(is("/"), is("usr"), is("lib"), is("x")));
+        assertThat(tree, not(hasPathTo(is("/"), is("usr"), is("bin"), is("x"))));
+        assertThat(tree, not(hasPathTo(is("usr"))));
+
+        Description description = new StringDescription();
+        hasPathTo(is("/"), is("usr"), is("lib"), is("y")).describeMismatch(tree, description);
+        assertThat(description.toString(), is("Expected a Tree with a path from its root through nodes matching "
+                + "[is \"/\",is \"usr\",is \"lib\",is \"y\"] but the longest path found ends at $[1][0], matching only "
+                + "[is \"/\",is \"usr\",is \"lib\"]"));
+
+        description = new StringDescription();
+        hasPathTo(is("usr")).describeMismatch(tree, description);
+        assertThat(description.toString(), Matchers.endsWith(" but its root did not match"));
+    }
+
+    @Test
+    public void testTreeStructuralEquality() {
+        Tree.Node<Integer> shared = Tree.of(10, Tree.of(11), Tree.of(12));
+        Tree<Integer> tree = Tree.of(1, shared, Tree.of(2));
+        assertThat(tree, isStructurallyEqualTo(Tree.of(1, shared, Tree.of(2))));
+        assertThat(tree, isStructurallyEqualTo(Tree.of(1, Tree.of(10, Tree.of(11), Tree.of(12)), Tree.of(2))));
+        assertThat(Tree.<Integer>empty(), isStructurallyEqualTo(Tree.empty()));
+        assertThat(tree, not(isStructurallyEqualTo(Tree.of(1, Tree.of(2), shared))));
+
+        Description description = new StringDescription();
+        isStructurallyEqualTo(Tree.of(1, Tree.of(10, Tree.of(11), Tree.of(13)), Tree.of(2))).describeMismatch(tree, description);
+        assertThat(description.toString(), is("Expected a Tree structurally equal to the one rooted at <1> but found a "
+                + "difference at $[0][1]: expected <13> but found <12>"));
+
+        description = new StringDescription();
+        isStructurallyEqualTo(Tree.of(1, Tree.of(10), Tree.of(2))).describeMismatch(tree, description);
+        assertThat(description.toString(), Matchers.endsWith("at $[0]: expected 0 children but found 2"));
+
+        description = new StringDescription();
+        isStructurallyEqualTo(Tree.<Integer>empty()).describeMismatch(tree, description);
+        assertThat(description.toString(), is("Expected a Tree structurally equal to an empty Tree but found a "
+                + "difference at $: expected an empty Tree"));
+    }
+
+    @Test
+    public void testDeepTree() {
+        Tree.Node<Integer> tree = Tree.of(0);
+        for (int i = 1; i < 100_000; i++)
+            tree = Tree.of(i, tree);
+        assertThat(tree, hasDepth(100_000));
+        assertThat(tree, allNodesMatch(lessThan(100_000)));
+        assertThat(tree, hasMaxBranching(1));
+    }
+
+    @Test
+    public void testDeepEquals() {
+        Map<String, List<Option<Either<String, Tuple2<Integer, String>>>>> users = HashMap.of(
+                "users", List.of(Option.none(), Option.some(Either.right(Tuple.of(1, "a")))),
+                "admins", List.empty());
+        assertThat(users, deepEquals(HashMap.of(
+                "users", List.of(Option.none(), Option.some(Either.right(Tuple.of(1, "a")))),
+                "admins", List.empty())));
+        assertThat(Vector.of(Try.success(1), Try.failure(new IllegalStateException())), not(deepEquals(
+                Vector.of(Try.success(1), Try.failure(new IllegalStateException())))));
+        assertThat(Validation.invalid(List.of("e")), deepEquals(Validation.invalid(List.of("e"))));
+        assertThat(Lazy.of(() -> 1), deepEquals(Lazy.of(() -> 1)));
+
+        Description description = new StringDescription();
+        deepEquals(HashMap.of("users", List.of(Option.none(), Option.some(Either.right(Tuple.of(1, "b"))))))
+                .describeMismatch(users.remove("admins"), description);
+        assertThat(description.toString(), is("Expected a value deeply equal to the expected one but found a difference "
+                + "at $.users[1].get.right._2: expected \"b\" but found \"a\""));
+
+        description = new StringDescription();
+        deepEquals(HashMap.of("a b", List.of(1, 2))).describeMismatch(HashMap.of("a b", List.of(1)), description);
+        assertThat(description.toString(), Matchers.endsWith("at $[\"a b\"]: expected a length of 2 but found 1"));
+
+        description = new StringDescription();
+        deepEquals(HashMap.of("m", HashMap.of(1, List.of(1, 2)))).describeMismatch(HashMap.of("m", HashMap.of(1, List.of(1, 3))), description);
+        assertThat(description.toString(), Matchers.endsWith("at $.m{1}[1]: expected <2> but found <3>"));
+
+        description = new StringDescription();
+        deepEquals(HashMap.of(1, Option.some(1))).describeMismatch(HashMap.of(1, Option.none()), description);
+        assertThat(description.toString(), Matchers.endsWith("at ${1}: expected a Some but found a None"));
+
+        description = new StringDescription();
+        deepEquals(HashMap.of(1, 1)).describeMismatch(HashMap.of(2, 1), description);
+        assertThat(description.toString(), Matchers.endsWith("at $: missing key <1>"));
+
+        description = new StringDescription();
+        deepEquals(HashMap.of(1, 1)).describeMismatch(HashMap.of(1, 1, 2, 2), description);
+        assertThat(description.toString(), Matchers.endsWith("at $: unexpected key <2>"));
+    }
+
+    @Test
+    public void testDeepEqualsOnDeepAndSharedValues() {
+        Object actual = 0, expected = 0;
+        for (int i = 0; i < 100_000; i++) {
+            actual = Option.some(actual);
+            expected = Option.some(expected);
+        }
+        assertThat(actual, deepEquals(expected));
+
+        // the shared tail is not walked, though it differs from itself when compared with equals
+        List<Double> shared = List.fill(100_000, Double.NaN);
+        assertThat(shared.prepend(1.0), deepEquals(shared.prepend(1.0)));
+        assertThat(shared.prepend(1.0), not(deepEquals(shared.prepend(2.0))));
+    }
+
+    @Test
+    public void testDeepEqualsReportsDeepDifferences() {
+        Object actual = 1, expected = 0;
+        for (int i = 0; i < 100_000; i++) {
+            actual = Option.some(actual);
+            expected = Option.some(expected);
+        }
+        try {
+            assertThat(actual, deepEquals(expected));
+            throw new IllegalStateException("should have failed");
+        } catch (AssertionError e) {
+            assertThat(e.getMessage(), Matchers.startsWith("\nExpected: Expected a value deeply equal to a Some\n"
+                    + "     but: Expected a value deeply equal to the expected one but found a difference at $.get.get"));
+            assertThat(e.getMessage(), containsString(".get...99941 more....get"));
+            assertThat(e.getMessage(), Matchers.endsWith(".get.get: expected <0> but found <1>"));
+            assertThat(e.getMessage().length(), lessThan(1_000));
+        }
+
+        Description description = new StringDescription();
+        deepEquals(expected).describeMismatch(Try.success(actual), description);
+        assertThat(description.toString(), Matchers.endsWith("at $: expected a Some but found a Success"));
+    }
+
+    @Test
+    public void testMatchesStructure() {
+        assertThat(HashMap.of("id", 12, "tags", List.of("a", "b")),
+                matchesStructure(HashMap.of("id", greaterThan(0), "tags", hasLength(2))));
+        assertThat(List.of(Option.some(1), Option.none()), matchesStructure(List.of(isDefined(), Option.none())));
+        assertThat(List.of(Option.some(1)), not(matchesStructure(List.of(isEmpty()))));
+
+        Description description = new StringDescription();
+        matchesStructure(HashMap.of("id", greaterThan(0))).describeMismatch(HashMap.of("id", -1), description);
+        assertThat(description.toString(), is("Expected a value matching the expected structure but found a "
+                + "difference at $.id: expected a value greater than <0> but <-1> was less than <0>"));
+    }
+
     @Test
     public void describeTo() {
         assertDescribeTo(isDefined(is(1)), "\"Expected a value with content matching \"is <1>");
@@ -503,26 +1656,70 @@ public class VavrMatchersTest {
         assertDescribeTo(isRight(is(1)), "Expected a <Right> with content matching is <1>");
         assertDescribeTo(isLeft(is(1)), "Expected a <Left> with content matching is <1>");
         assertDescribeTo(hasLength(1), "Expected Traversable to have length <1>");
+        assertDescribeTo(hasLengthAtLeast(1), "Expected Traversable to have length at least <1>");
+        assertDescribeTo(hasLengthAtMost(1), "Expected Traversable to have length at most <1>");
+        assertDescribeTo(hasLengthBetween(1, 2), "Expected Traversable to have length between <1> and <2>");
         assertDescribeTo(contains(1), "Expected at least one element matching is <1>");
         assertDescribeTo(containsSubList(1), "Expected a Traversable containing in same order all of [<1>]");
+        assertDescribeTo(containsSubList(is(1)), "Expected a Traversable containing in same order elements matching [is <1>]");
         assertDescribeTo(containsInOrder(1), "Expected a Traversable containing in same order all of [<1>]");
         assertDescribeTo(containsInAnyOrder(1), "Expected a Traversable containing all of [<1>]");
+        assertDescribeTo(exactlyInAnyOrder(1), "Expected a Traversable containing exactly all of [<1>] in any order");
         assertDescribeTo(allMatch(is(1)), "Expected a Traversable where all elements should match is <1>");
+        assertDescribeTo(allMatchParallel(is(1)), "Expected a Traversable where all elements should match is <1>");
+        assertDescribeTo(containsParallel(is(1)), "Expected at least one element matching is <1>");
         assertDescribeTo(isSorted(), "Expected a Seq to be sorted but it was not");
         assertDescribeTo(isReverseSorted(), "Expected a Seq to be reverse sorted but it was not");
+        assertDescribeTo(isStrictlySorted(), "Expected a Seq to be strictly sorted but it was not");
+        assertDescribeTo(isStrictlyReverseSorted(), "Expected a Seq to be strictly reverse sorted but it was not");
         assertDescribeTo(startsWith(1), "Expected a Seq to start with [<1>]");
         assertDescribeTo(endsWith(1), "Expected a Seq to end with [<1>]");
         assertDescribeTo(isUnique(), "Expected a Seq to have unique elements");
+        assertDescribeTo(isUniqueBy(String::length), "Expected a Seq to have unique keys");
         assertDescribeTo(containsSubSet(1), "Expected a Set containing all of [<1>]");
         assertDescribeTo(isSubSetOf(1), "Expected a Set being a subset of [<1>]");
         assertDescribeTo(containsKeys(1), "Expected a Map containing the following keys [<1>]");
         assertDescribeTo(containsValues(1), "Expected a Map containing the following values [<1>]");
         assertDescribeTo(contains(1, 2), "Expected a Map containing an entry <1>=<2>");
+        assertDescribeTo(hasEntries(HashMap.of(1, is(2))), "Expected a Map containing entries matching [<1>=is <2>]");
+        assertDescribeTo(allIntsMatch(i -> true), "Expected a Traversable where all elements should match the predicate");
+        assertDescribeTo(allDoublesBetween(0, 1), "Expected a Traversable where all elements should be between 0.0 and 1.0");
+        assertDescribeTo(isSortedLongs(), "Expected a Seq to be sorted but it was not");
+        assertDescribeTo(hasLongSum(sum -> true), "Expected a Traversable whose sum matches the predicate");
+        assertDescribeTo(hasIntMin(min -> true), "Expected a Traversable whose minimum matches the predicate");
+        assertDescribeTo(isSeqEqualTo(List.of(1, 2)), "Expected a Seq equal to [<1>,<2>]");
+        assertDescribeTo(hasDepth(2), "Expected a Tree of depth <2>");
+        assertDescribeTo(hasMaxBranching(2), "Expected a Tree whose nodes have at most <2> children");
+        assertDescribeTo(containsNode(is(1)), "Expected a Tree containing a node matching is <1>");
+        assertDescribeTo(allNodesMatch(is(1)), "Expected a Tree where all nodes should match is <1>");
+        assertDescribeTo(hasPathTo(is(1), is(2)), "Expected a Tree with a path from its root through nodes matching [is <1>,is <2>]");
+        assertDescribeTo(isStructurallyEqualTo(Tree.of(1)), "Expected a Tree structurally equal to the one rooted at <1>");
+        assertDescribeTo(deepEquals(List.of(Option.some(1))), "Expected a value deeply equal to a List of 1 element");
+        assertDescribeTo(matchesStructure(List.of(is(1))), "Expected a value matching the structure a List of 1 element");
         assertDescribeTo(isCancelled(), "Expected a cancelled Future but it was not");
         assertDescribeTo(isCompleted(), "Expected a completed Future but it was not");
         assertDescribeTo(isCompleted(is(1)), "Expected a completed Future but it was not");
+        assertDescribeTo(isCompletedWithin(Duration.ofSeconds(1)), "Expected a Future to complete within 1000 ms");
+        assertDescribeTo(allCompletedWithin(Duration.ofSeconds(1), is(1)),
+                "Expected all Futures to complete with values matching is <1> within 1000 ms");
+        assertDescribeTo(allSucceedWithin(Duration.ofSeconds(1)), "Expected all Futures to succeed within 1000 ms");
+        assertDescribeTo(anySucceedsWithin(Duration.ofSeconds(1)), "Expected any Future to succeed within 1000 ms");
+        assertDescribeTo(succeedsWithin(Duration.ofSeconds(1)), "Expected a Future to succeed within 1000 ms");
+        assertDescribeTo(failsWithin(Duration.ofSeconds(1), IllegalStateException.class),
+                "Expected a Future to fail with java.lang.IllegalStateException within 1000 ms");
         assertDescribeTo(isEvaluated(), "Expected an evaluated Lazy but it was not");
         assertDescribeTo(isEvaluated(is(1)), "Expected an evaluated Lazy but it was not");
+        assertDescribeTo(completesWithin(Duration.ofMillis(5)), "Expected every run to complete within 5.0 ms");
+        assertDescribeTo(allocatesAtMost(16), "Expected at most 16 bytes allocated per run");
+        assertDescribeTo(allocatesNothing(), "Expected no allocation");
+        assertDescribeTo(hasRetainedSizeAtMost(16), "Expected a retained size of at most 16 bytes");
+        assertDescribeTo(sharesStructureWith(List.empty(), 0.25),
+                "Expected a Traversable sharing at least 25.0% of its structure with the given one");
+        assertDescribeTo(hasLatency(percentile(99), lessThan(Duration.ofMillis(5))),
+                "Expected the 99th percentile latency to be a value less than <PT0.005S>");
+        assertDescribeTo(forcedAtMost(1), "Expected at most 1 elements or evaluations to be forced");
+        assertDescribeTo(evaluatedExactlyOnce(), "Expected to be evaluated exactly once");
+        assertDescribeTo(notEvaluated(), "Expected not to be evaluated");
         assertDescribeTo(hasArity(1), "Expected a Tuple with arity <1>");
         assertDescribeTo(hasArity(is(1)), "Expected a Tuple to match arity is <1>");
         assertDescribeTo(isValid(), "Expected a valid Validation but it was not");
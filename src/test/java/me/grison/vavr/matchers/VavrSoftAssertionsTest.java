@@ -0,0 +1,87 @@
+package me.grison.vavr.matchers;
+
+import io.vavr.collection.List;
+import io.vavr.control.Either;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static me.grison.vavr.matchers.VavrMatchers.allMatch;
+import static me.grison.vavr.matchers.VavrMatchers.isRight;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class VavrSoftAssertionsTest {
+    @Test
+    public void testPasses() {
+        VavrSoftAssertions soft = VavrSoftAssertions.create();
+        List.range(0, 100).forEach(i -> soft.assertThat(Either.right(i), isRight(lessThan(100))));
+        assertThat(soft.failureCount(), is(0));
+        soft.assertAll();
+    }
+
+    @Test
+    public void testGroupsFailuresByShape() {
+        VavrSoftAssertions soft = VavrSoftAssertions.create(3);
+        Matcher<Either<String, Integer>> right = isRight(lessThan(2));
+        List.range(0, 5).forEach(i -> soft.assertThat(Either.<String, Integer>right(i), right));
+        soft.assertThat("all small", List.of(1, 5), allMatch(lessThan(3)));
+        soft.assertThat(Either.<String, Integer>left("oops"), right);
+        assertThat(soft.failureCount(), is(5));
+        try {
+            soft.assertAll();
+        } catch (AssertionError e) {
+            assertThat(e.getMessage(), is("5 of 7 checks failed\n\n"
+                    + "[4 failures]\nExpected: Expected a <Right> with content matching a value less than <2>\n"
+                    + "     but (check 2): Expected a <Right> with content matching `a value less than <2>` but <2> was equal to <2>\n"
+                    + "     but (check 3): Expected a <Right> with content matching `a value less than <2>` but <3> was greater than <2>\n"
+                    + "     but (check 4): Expected a <Right> with content matching `a value less than <2>` but <4> was greater than <2>\n"
+                    + "     ...and 1 more\n\n"
+                    + "[1 failure] all small\nExpected: Expected a Traversable where all elements should match a value less than <3>\n"
+                    + "     ...and 1 more"));
+            return;
+        }
+        throw new AssertionError("Failures should have been reported");
+    }
+
+    @Test
+    public void testDescribesMismatchesWithinTheBudget() {
+        AtomicInteger expectations = new AtomicInteger();
+        AtomicInteger mismatches = new AtomicInteger();
+        Matcher<Integer> even = new TypeSafeMatcher<Integer>() {
+            @Override
+            protected boolean matchesSafely(Integer item) {
+                return item % 2 == 0;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                expectations.incrementAndGet();
+                description.appendText("even");
+            }
+
+            @Override
+            protected void describeMismatchSafely(Integer item, Description mismatch) {
+                mismatches.incrementAndGet();
+                mismatch.appendValue(item).appendText(" is odd");
+            }
+        };
+        VavrSoftAssertions soft = VavrSoftAssertions.create(1);
+        List.range(0, 1_000).forEach(i -> soft.assertThat(i, even));
+        assertThat(expectations.get(), is(500));
+        assertThat(mismatches.get(), is(1));
+        try {
+            soft.assertAll();
+        } catch (AssertionError e) {
+            assertThat(e.getMessage(), is("500 of 1000 checks failed\n\n[500 failures]\nExpected: even\n"
+                    + "     but (check 1): <1> is odd\n     ...and 499 more"));
+            assertThat(expectations.get(), is(500));
+            assertThat(mismatches.get(), is(1));
+            return;
+        }
+        throw new AssertionError("Failures should have been reported");
+    }
+}
@@ -0,0 +1,42 @@
+package me.grison.vavr.matchers;
+
+import io.vavr.collection.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static me.grison.vavr.matchers.VavrMatchers.isSorted;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+public class MatcherEvaluationEventTest {
+    @Test
+    public void testMatcherMetricsFlightRecorder() throws Exception {
+        Path file = Files.createTempFile("matchers", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("me.grison.vavr.matchers.Evaluation");
+            recording.start();
+            MatcherMetrics.enable(MatcherMetrics.flightRecorder());
+            try {
+                assertThat(List.of(1, 2), isSorted());
+            } finally {
+                MatcherMetrics.disable();
+            }
+            recording.stop();
+            recording.dump(file);
+            java.util.List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertThat(events, hasSize(1));
+            assertThat(events.get(0).getString("matcher"), is("isSorted"));
+            assertThat(events.get(0).getString("phase"), is("MATCH"));
+            assertThat(events.get(0).getInt("inputSize"), is(2));
+            assertThat(events.get(0).getBoolean("matched"), is(true));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}